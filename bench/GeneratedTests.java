@@ -0,0 +1,68 @@
+package bench;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GeneratedTests {
+    private final Path directory;
+    private final List<String> classNames = new ArrayList<>();
+
+    public GeneratedTests(String prefix, int classes, int testsPerClass) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Generating test classes requires a JDK");
+        }
+
+        this.directory = Files.createTempDirectory("junit-bench-");
+        Path sources = Files.createDirectories(directory.resolve("src/generated"));
+        List<String> arguments = new ArrayList<>(List.of(
+                "-d", directory.toString(),
+                "-cp", System.getProperty("java.class.path")));
+        for (int c = 0; c < classes; c++) {
+            String simpleName = prefix + c;
+            StringBuilder source = new StringBuilder()
+                    .append("package generated;\n\n")
+                    .append("import junit.Assertions;\n")
+                    .append("import junit.annotations.*;\n\n")
+                    .append("public class ").append(simpleName).append(" {\n")
+                    .append("    long value;\n\n")
+                    .append("    @BeforeEach\n")
+                    .append("    public void setUp() {\n")
+                    .append("        value = 1;\n")
+                    .append("    }\n");
+            for (int t = 0; t < testsPerClass; t++) {
+                source.append("\n    @Test\n")
+                        .append("    public void test").append(t).append("() {\n")
+                        .append("        Assertions.assertEquals(").append(t).append("L, value * ").append(t).append(");\n")
+                        .append("    }\n");
+            }
+
+            source.append("}\n");
+            Path file = sources.resolve(simpleName + ".java");
+            Files.writeString(file, source);
+            arguments.add(file.toString());
+            classNames.add("generated." + simpleName);
+        }
+
+        if (compiler.run(null, null, System.err, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Could not compile generated test classes in " + directory);
+        }
+    }
+
+    public Class<?>[] load() throws IOException, ClassNotFoundException {
+        URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, GeneratedTests.class.getClassLoader());
+        Class<?>[] classes = new Class<?>[classNames.size()];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = Class.forName(classNames.get(i), true, loader);
+        }
+
+        return classes;
+    }
+}
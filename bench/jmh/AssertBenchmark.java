@@ -0,0 +1,114 @@
+package bench.jmh;
+
+import junit.AssertionFailedError;
+import junit.Assertions;
+import junit.MultipleFailuresError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AssertBenchmark {
+    long expectedLong = 31_000_000L;
+    long actualLong = 31_000_000L;
+    String expectedString = "value";
+    String actualString = new String("value");
+    Duration timeout = Duration.ofSeconds(10);
+    String message = "message";
+    Supplier<String> messageSupplier = () -> "expensive message " + System.nanoTime();
+
+    @Benchmark
+    public void assertEqualsLongPass() {
+        Assertions.assertEquals(expectedLong, actualLong);
+    }
+
+    @Benchmark
+    public void assertEqualsObjectPass() {
+        Assertions.assertEquals(expectedString, actualString);
+    }
+
+    // Passing assertions with a message or a message supplier should not allocate; check with -prof gc.
+    @Benchmark
+    public void assertEqualsLongMessagePass() {
+        Assertions.assertEquals(expectedLong, actualLong, message);
+    }
+
+    @Benchmark
+    public void assertEqualsLongSupplierPass() {
+        Assertions.assertEquals(expectedLong, actualLong, messageSupplier);
+    }
+
+    @Benchmark
+    public void assertEqualsObjectMessagePass() {
+        Assertions.assertEquals(expectedString, actualString, message);
+    }
+
+    @Benchmark
+    public void assertEqualsObjectSupplierPass() {
+        Assertions.assertEquals(expectedString, actualString, messageSupplier);
+    }
+
+    @Benchmark
+    public void assertTrueSupplierPass() {
+        Assertions.assertTrue(actualLong > 0, messageSupplier);
+    }
+
+    @Benchmark
+    public void assertNotNullSupplierPass() {
+        Assertions.assertNotNull(actualString, messageSupplier);
+    }
+
+    @Benchmark
+    public AssertionFailedError assertEqualsLongFail() {
+        try {
+            Assertions.assertEquals(expectedLong, actualLong + 1);
+            return null;
+        } catch (AssertionFailedError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void assertAllPass() {
+        long value = actualLong;
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(expectedLong, value),
+                () -> Assertions.assertTrue(value >= 0),
+                () -> Assertions.assertNotNull(expectedString));
+    }
+
+    @Benchmark
+    public MultipleFailuresError assertAllFail() {
+        try {
+            Assertions.assertAll(
+                    () -> Assertions.assertEquals(1L, 2L),
+                    () -> Assertions.assertTrue(false),
+                    () -> Assertions.assertNull(expectedString));
+            return null;
+        } catch (MultipleFailuresError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void assertTimeoutPreemptively(Blackhole blackhole) throws Exception {
+        Assertions.assertTimeoutPreemptively(timeout, () -> blackhole.consume(expectedString));
+    }
+}
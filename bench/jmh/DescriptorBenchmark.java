@@ -0,0 +1,74 @@
+package bench.jmh;
+
+import bench.GeneratedTests;
+import junit.TestClass;
+import junit.TestClassDescriptor;
+import junit.reporting.SilentReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DescriptorBenchmark {
+    @State(Scope.Benchmark)
+    public static class Wide {
+        @Param({"100", "1000"})
+        int methods;
+
+        GeneratedTests generated;
+        Class<?> clazz;
+        SilentReporter silent = new SilentReporter();
+
+        @Setup(Level.Trial)
+        public void compile() throws Exception {
+            generated = new GeneratedTests("Wide" + methods + "x", 1, methods);
+            clazz = generated.load()[0];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Fresh {
+        Class<?> clazz;
+
+        @Setup(Level.Iteration)
+        public void load(Wide wide) throws Exception {
+            clazz = wide.generated.load()[0];
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public TestClassDescriptor cold(Fresh fresh) {
+        return TestClassDescriptor.of(fresh.clazz);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public TestClassDescriptor cached(Wide wide) {
+        return TestClassDescriptor.of(wide.clazz);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public TestClass newTestClass(Wide wide) {
+        return new TestClass(wide.clazz, wide.silent, null);
+    }
+}
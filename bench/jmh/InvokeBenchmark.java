@@ -0,0 +1,56 @@
+package bench.jmh;
+
+import junit.TestMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InvokeBenchmark {
+    public static class Target {
+        long counter;
+
+        void tick() {
+            counter++;
+        }
+    }
+
+    @Param({"reflection", "methodhandle", "lambda"})
+    String invoker;
+
+    Target target;
+    TestMethod method;
+
+    @Setup
+    public void setUp() throws Exception {
+        target = new Target();
+        method = new TestMethod(Target.class.getDeclaredMethod("tick"), TestMethod.invokerFactory(invoker));
+    }
+
+    @Benchmark
+    public long direct() {
+        target.tick();
+        return target.counter;
+    }
+
+    @Benchmark
+    public long invoke() throws Throwable {
+        method.invoke(target);
+        return target.counter;
+    }
+}
@@ -0,0 +1,51 @@
+package bench.jmh;
+
+import bench.GeneratedTests;
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.reporting.SilentReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RunClassesBenchmark {
+    @Param({"10", "1000", "10000"})
+    int tests;
+
+    @Param({"false", "true"})
+    boolean parallel;
+
+    Class<?>[] classes;
+
+    @Setup(Level.Trial)
+    public void generate() throws Exception {
+        int count = Math.max(1, tests / 1_000);
+        classes = new GeneratedTests("Run" + tests + "x", count, tests / count).load();
+    }
+
+    @Benchmark
+    public Result runClasses() throws Exception {
+        return JUnitCore.runClasses(RunOptions.defaults()
+                .parallelClasses(parallel)
+                .parallelMethods(parallel)
+                .listeners(new SilentReporter()), classes);
+    }
+}
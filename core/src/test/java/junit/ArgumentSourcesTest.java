@@ -0,0 +1,99 @@
+package junit;
+
+import junit.annotations.MethodSource;
+import junit.annotations.ParameterizedTest;
+import junit.annotations.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArgumentSourcesTest {
+    public static class BadRows {
+        @ParameterizedTest(name = "{index}: {arguments}")
+        @MethodSource("rows")
+        public void serial(int x) {
+        }
+
+        @ParameterizedTest(parallel = true, batchSize = 2)
+        @MethodSource("rows")
+        public void parallel(int x) {
+        }
+
+        static Stream<Object[]> rows() {
+            return Stream.of(new Object[]{1}, new Object[]{"abc"}, new Object[]{3L}, new Object[]{1, 2}, new Object[]{"5"});
+        }
+    }
+
+    public static class Values {
+        @ParameterizedTest
+        @ValueSource(strings = {"1", "2", "3"})
+        public void positive(long x) {
+            Assertions.assertTrue(x != 2);
+        }
+    }
+
+    static class Invocations implements TestListener {
+        final Map<String, Map<Integer, Failure>> failures = new TreeMap<>();
+        final Map<String, Map<Integer, String>> names = new TreeMap<>();
+
+        @Override
+        public synchronized void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+            failures.computeIfAbsent(method.getName(), k -> new TreeMap<>()).put(invocation, failure);
+            names.computeIfAbsent(method.getName(), k -> new TreeMap<>()).put(invocation, name);
+        }
+    }
+
+    private static Invocations run(Class<?> clazz) throws Exception {
+        Invocations invocations = new Invocations();
+        try (Result result = JUnitCore.runClasses(RunOptions.defaults().parallelMethods(true).listeners(invocations), clazz)) {
+            return invocations;
+        }
+    }
+
+    @Test
+    void badRowFailsOnlyItself() throws Exception {
+        Invocations invocations = run(BadRows.class);
+
+        for (String method : new String[]{"serial", "parallel"}) {
+            Map<Integer, Failure> failures = invocations.failures.get(method);
+            assertEquals(5, failures.size(), method);
+            assertNull(failures.get(1), method);
+            assertNotNull(failures.get(2), method);
+            assertNull(failures.get(3), method);
+            assertInstanceOf(IllegalArgumentException.class, failures.get(4).error, method);
+            assertNull(failures.get(5), method);
+            assertEquals("[2]", invocations.names.get(method).get(2));
+        }
+
+        assertEquals("3: 3", invocations.names.get("serial").get(3));
+    }
+
+    @Test
+    void convertsStringsToParameterTypes() throws Exception {
+        Invocations invocations = run(Values.class);
+
+        Map<Integer, Failure> failures = invocations.failures.get("positive");
+        assertEquals(3, failures.size());
+        assertNull(failures.get(1));
+        assertInstanceOf(AssertionFailedError.class, failures.get(2).error);
+        assertNull(failures.get(3));
+    }
+
+    @Test
+    void narrowsOnlyExactNumbers() {
+        assertEquals(3, ArgumentSources.convert(3L, int.class));
+        assertEquals((byte) 7, ArgumentSources.convert(7, byte.class));
+        assertEquals(2.0, ArgumentSources.convert(2, double.class));
+        assertThrows(IllegalArgumentException.class, () -> ArgumentSources.convert(Long.MAX_VALUE, int.class));
+        assertThrows(IllegalArgumentException.class, () -> ArgumentSources.convert(1.5, long.class));
+        assertThrows(IllegalArgumentException.class, () -> ArgumentSources.convert(null, int.class));
+    }
+}
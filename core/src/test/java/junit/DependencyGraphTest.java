@@ -0,0 +1,125 @@
+package junit;
+
+import junit.reporting.SilentReporter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DependencyGraphTest {
+    public static class Chain {
+        @junit.annotations.Test(dependsOnMethods = "b")
+        public void c() {
+        }
+
+        @junit.annotations.Test(dependsOnMethods = "a")
+        public void b() {
+        }
+
+        @junit.annotations.Test
+        public void a() {
+        }
+
+        @junit.annotations.Test
+        public void d() {
+        }
+
+        @junit.annotations.Test(dependsOnMethods = "missing")
+        public void e() {
+        }
+    }
+
+    public static class Cycles {
+        @junit.annotations.Test(dependsOnMethods = {"a", "c"})
+        public void b() {
+        }
+
+        @junit.annotations.Test(dependsOnMethods = "b")
+        public void a() {
+        }
+
+        @junit.annotations.Test(dependsOnMethods = "a")
+        public void c() {
+        }
+
+        @junit.annotations.Test(dependsOnMethods = "s")
+        public void s() {
+        }
+
+        @junit.annotations.Test
+        public void ok() {
+        }
+    }
+
+    private static final Comparator<TestMethod> BY_NAME = Comparator.comparing(TestMethod::getName);
+
+    private static DependencyGraph graph(Class<?> clazz, String... names) throws Exception {
+        List<TestMethod> methods = new ArrayList<>();
+        for (String name : names) {
+            methods.add(new TestMethod(clazz.getDeclaredMethod(name)));
+        }
+
+        return new DependencyGraph(methods);
+    }
+
+    private static List<String> names(List<DependencyGraph.Node> nodes) {
+        return nodes.stream().map(node -> node.getMethod().getName()).toList();
+    }
+
+    private static DependencyGraph.Node node(DependencyGraph graph, String name) {
+        return graph.order().stream().filter(node -> node.getMethod().getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    @Test
+    void ordersDependenciesFirst() throws Exception {
+        List<String> order = names(graph(Chain.class, "c", "b", "a", "d").order(BY_NAME));
+
+        assertEquals(4, order.size());
+        assertTrue(order.indexOf("a") < order.indexOf("b"));
+        assertTrue(order.indexOf("b") < order.indexOf("c"));
+    }
+
+    @Test
+    void filterKeepsTransitiveDependencies() throws Exception {
+        DependencyGraph graph = graph(Chain.class, "c", "b", "a", "d");
+
+        assertEquals(List.of("a", "b", "c"), names(graph.order(BY_NAME, method -> method.getName().equals("c"))));
+    }
+
+    @Test
+    void missingDependencyIsConfigurationError() throws Exception {
+        DependencyGraph graph = graph(Chain.class, "a", "e");
+
+        assertFalse(node(graph, "a").hasConfigurationError());
+        assertInstanceOf(IllegalArgumentException.class, node(graph, "e").configurationError());
+    }
+
+    @Test
+    void marksEveryMemberOfCycle() throws Exception {
+        DependencyGraph graph = graph(Cycles.class, "b", "a", "c", "s", "ok");
+
+        for (String name : List.of("a", "b", "c", "s")) {
+            DependencyGraph.Node node = node(graph, name);
+            assertTrue(node.hasConfigurationError(), name);
+            assertInstanceOf(IllegalStateException.class, node.configurationError(), name);
+        }
+
+        assertFalse(node(graph, "ok").hasConfigurationError());
+    }
+
+    @Test
+    void cyclesFailInParallelRun() throws Exception {
+        try (Result result = JUnitCore.runClasses(RunOptions.defaults().parallelMethods(true).deterministic(true).listeners(new SilentReporter()), Cycles.class)) {
+            assertEquals(4, result.getFailureCount());
+            for (int i = 0; i < result.getFailureCount(); i++) {
+                assertTrue(result.getFailure(i).error.getMessage().startsWith("Circular dependency"));
+            }
+        }
+    }
+}
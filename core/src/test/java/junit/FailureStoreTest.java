@@ -0,0 +1,77 @@
+package junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FailureStoreTest {
+    public static class Fixture {
+        @junit.annotations.Test
+        public void test() {
+        }
+    }
+
+    private static TestMethod method() throws Exception {
+        return new TestMethod(Fixture.class.getDeclaredMethod("test"));
+    }
+
+    // Assertion failures are thrown from inside junit.Assertions; only the frame after them tells call sites apart.
+    private static Failure failure(TestMethod method, String message, int line) {
+        AssertionFailedError error = new AssertionFailedError(message);
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("junit.Assertions", "failNotEqual", "Assertions.java", 10),
+                new StackTraceElement("junit.Assertions", "assertEquals", "Assertions.java", 20),
+                new StackTraceElement("com.example.CalculatorTest", "testAdd", "CalculatorTest.java", line),
+                new StackTraceElement("junit.TestMethod", "invoke", "TestMethod.java", 30)});
+        return new Failure(method, error);
+    }
+
+    @Test
+    void keysCausesOnFirstFrameOutsideJunit() throws Exception {
+        TestMethod method = method();
+        Failure first = failure(method, "expected: <1> but was: <2>", 40);
+        Failure otherCallSite = failure(method, "expected: <1> but was: <3>", 41);
+        Failure sameCallSite = failure(method, "expected: <1> but was: <4>", 40);
+        try (FailureStore store = new FailureStore(1, Integer.MAX_VALUE, null)) {
+            store.add(first);
+            store.add(otherCallSite);
+            store.add(sameCallSite);
+
+            assertSame(first.error, store.get(0).error);
+            assertSame(otherCallSite.error, store.get(1).error);
+            CapturedError compact = assertInstanceOf(CapturedError.class, store.get(2).error);
+            assertEquals(AssertionFailedError.class.getName(), compact.getClassName());
+            assertEquals("expected: <1> but was: <4>", compact.getMessage());
+        }
+    }
+
+    @Test
+    void spilledFailuresAreReadBackAndDeletedOnClose(@TempDir Path directory) throws Exception {
+        TestMethod method = method();
+        Path file = directory.resolve("failures.bin");
+        FailureStore store = new FailureStore(0, 0, file);
+        for (int i = 0; i < 3; i++) {
+            store.add(failure(method, "failure " + i, 40 + i));
+        }
+
+        assertTrue(Files.exists(file));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(method, store.get(i).method);
+            assertEquals("failure " + i, store.get(i).error.getMessage());
+        }
+
+        store.close();
+        assertFalse(Files.exists(file));
+        assertThrows(IllegalStateException.class, () -> store.get(0));
+        assertThrows(IllegalStateException.class, () -> store.add(failure(method, "late", 50)));
+    }
+}
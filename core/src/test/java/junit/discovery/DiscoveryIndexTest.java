@@ -0,0 +1,111 @@
+package junit.discovery;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DiscoveryIndexTest {
+    private static BasicFileAttributes attributes(Path file) throws Exception {
+        return Files.readAttributes(file, BasicFileAttributes.class);
+    }
+
+    private static Path saved(Path directory, Path classFile) throws Exception {
+        Path file = directory.resolve("discovery.idx");
+        DiscoveryIndex index = DiscoveryIndex.load(file);
+        index.put("com/example/ATest.class", attributes(classFile), List.of(
+                new DiscoveredClass("com.example.ATest", Set.of("fast"), Map.of("slowTest", Set.of("slow")))));
+        index.get("com/example/ATest.class", attributes(classFile));
+        index.save();
+        return file;
+    }
+
+    private static Path classFile(Path directory) throws Exception {
+        return Files.writeString(directory.resolve("ATest.class"), "bytes");
+    }
+
+    @Test
+    void roundTripsClassesAndTags(@TempDir Path directory) throws Exception {
+        Path classFile = classFile(directory);
+        DiscoveryIndex.Entry entry = DiscoveryIndex.load(saved(directory, classFile)).get("com/example/ATest.class", attributes(classFile));
+
+        assertNotNull(entry);
+        DiscoveredClass clazz = entry.classes.get(0);
+        assertEquals("com.example.ATest", clazz.getClassName());
+        assertEquals(Set.of("fast"), clazz.getTags());
+        assertEquals(Set.of("fast", "slow"), clazz.getTags("slowTest"));
+        assertEquals(Set.of("fast"), clazz.getTags("other"));
+    }
+
+    @Test
+    void changedFileMisses(@TempDir Path directory) throws Exception {
+        Path classFile = classFile(directory);
+        Path file = saved(directory, classFile);
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() - 60_000));
+
+        assertNull(DiscoveryIndex.load(file).get("com/example/ATest.class", attributes(classFile)));
+    }
+
+    @Test
+    void unusedEntriesAreDropped(@TempDir Path directory) throws Exception {
+        Path classFile = classFile(directory);
+        Path file = saved(directory, classFile);
+        DiscoveryIndex.load(file).save();
+
+        assertNull(DiscoveryIndex.load(file).get("com/example/ATest.class", attributes(classFile)));
+    }
+
+    @Test
+    void truncatedFileIsEmpty(@TempDir Path directory) throws Exception {
+        Path classFile = classFile(directory);
+        Path file = saved(directory, classFile);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertNull(DiscoveryIndex.load(file).get("com/example/ATest.class", attributes(classFile)));
+    }
+
+    @Test
+    void negativeTagCountIsEmpty(@TempDir Path directory) throws Exception {
+        Path classFile = classFile(directory);
+        Path file = directory.resolve("discovery.idx");
+        BasicFileAttributes attributes = attributes(classFile);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x4A554944);
+            out.writeInt(2);
+            out.writeInt(1);
+            out.writeUTF("com/example/ATest.class");
+            out.writeLong(attributes.lastModifiedTime().toMillis());
+            out.writeLong(attributes.size());
+            out.writeInt(1);
+            out.writeUTF("com.example.ATest");
+            out.writeInt(-1);
+            out.writeInt(0);
+        }
+
+        assertNull(DiscoveryIndex.load(file).get("com/example/ATest.class", attributes));
+    }
+
+    @Test
+    void otherVersionIsEmpty(@TempDir Path directory) throws Exception {
+        Path classFile = classFile(directory);
+        Path file = saved(directory, classFile);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[7] = 1;
+        Files.write(file, bytes);
+
+        assertNull(DiscoveryIndex.load(file).get("com/example/ATest.class", attributes(classFile)));
+    }
+}
@@ -0,0 +1,177 @@
+package junit.fork;
+
+import junit.AssertionFailedError;
+import junit.Failure;
+import junit.TestClassDescriptor;
+import junit.TestListener;
+import junit.TestMethod;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventCodecTest {
+    public static class Fixture {
+        @junit.annotations.Test
+        public void passes() {
+        }
+
+        @junit.annotations.Test
+        public void fails() {
+        }
+
+        @junit.annotations.Test
+        public void skipped() {
+        }
+    }
+
+    static class Events implements TestListener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void classStarted(Class<?> testClass) {
+            events.add("classStarted " + testClass.getSimpleName());
+        }
+
+        @Override
+        public void classFinished(Class<?> testClass) {
+            events.add("classFinished " + testClass.getSimpleName());
+        }
+
+        @Override
+        public void testStarted(TestMethod method, int repetitions) {
+            events.add("testStarted " + method.getName() + " " + repetitions);
+        }
+
+        @Override
+        public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+            events.add("repetitionFinished " + method.getName() + " " + repetition + "/" + repetitions + " " + failure + " " + nanos);
+        }
+
+        @Override
+        public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+            events.add("invocationFinished " + method.getName() + " " + invocation + " " + name + " " + failure + " " + nanos);
+        }
+
+        @Override
+        public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+            events.add("testFinished " + method.getName() + " " + repetitions + " " + failure + " " + nanos);
+        }
+
+        @Override
+        public void testSkipped(TestMethod method, Failure failure) {
+            events.add("testSkipped " + method.getName() + " " + failure);
+        }
+
+        @Override
+        public void failure(Failure failure) {
+            events.add("failure " + failure);
+        }
+    }
+
+    private static void replay(TestListener listener) {
+        TestClassDescriptor descriptor = TestClassDescriptor.of(Fixture.class);
+        TestMethod passes = descriptor.getMethod("passes");
+        TestMethod fails = descriptor.getMethod("fails");
+        TestMethod skipped = descriptor.getMethod("skipped");
+        Failure failure = new Failure(fails, new AssertionFailedError("expected: <1> but was: <2>"));
+        listener.classStarted(Fixture.class);
+        listener.testStarted(passes, 2);
+        listener.repetitionFinished(passes, 1, 2, null, 10);
+        listener.repetitionFinished(passes, 2, 2, null, 11);
+        listener.testFinished(passes, 2, null, 21);
+        listener.testStarted(fails, 1);
+        listener.invocationFinished(fails, 1, "[1] 1", null, 5);
+        listener.invocationFinished(fails, 2, null, failure, 6);
+        listener.failure(failure);
+        listener.testFinished(fails, 2, failure, 11);
+        listener.testSkipped(skipped, new Failure(skipped, new IllegalStateException("Not successful depending method: fails")));
+        listener.classFinished(Fixture.class);
+    }
+
+    private static EventReader reader(ByteArrayOutputStream bytes) {
+        return new EventReader(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), Fixture.class.getClassLoader());
+    }
+
+    @Test
+    void eventsRoundTrip() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EventWriter writer = new EventWriter(new DataOutputStream(bytes))) {
+            replay(writer);
+            writer.done();
+        }
+
+        Events expected = new Events();
+        replay(expected);
+        Events actual = new Events();
+        try (EventReader reader = reader(bytes)) {
+            reader.readAll(actual);
+
+            TestClassDescriptor descriptor = TestClassDescriptor.of(Fixture.class);
+            assertTrue(reader.isReported(descriptor.getMethod("passes")));
+            assertTrue(reader.isReported(descriptor.getMethod("skipped")));
+            assertEquals(List.of(Fixture.class), List.copyOf(reader.getClassNanos().keySet()));
+        }
+
+        // Errors other than assertion failures come back as RemoteException, which prints the original class name.
+        assertEquals(expected.events, actual.events);
+    }
+
+    // Class loader and module names are not encoded, so frames are compared by their source location.
+    private static List<String> frames(Throwable error) {
+        List<String> frames = new ArrayList<>();
+        for (StackTraceElement frame : error.getStackTrace()) {
+            frames.add(frame.getClassName() + "." + frame.getMethodName() + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")");
+        }
+
+        return frames;
+    }
+
+    @Test
+    void throwablesKeepTypeMessageTraceAndCause() throws Exception {
+        AssertionFailedError cause = new AssertionFailedError("inner");
+        IllegalStateException error = new IllegalStateException("outer", cause);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ForkCodec.writeThrowable(out, error);
+            ForkCodec.writeNullable(out, null);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            RemoteException read = assertInstanceOf(RemoteException.class, ForkCodec.readThrowable(in));
+            assertEquals(IllegalStateException.class.getName(), read.getClassName());
+            assertEquals("outer", read.getMessage());
+            assertEquals(frames(error), frames(read));
+            AssertionFailedError readCause = assertInstanceOf(AssertionFailedError.class, read.getCause());
+            assertEquals("inner", readCause.getMessage());
+            assertEquals(frames(cause), frames(readCause));
+            assertNull(ForkCodec.readNullable(in));
+        }
+    }
+
+    @Test
+    void unreportedMethodsStayUnreported() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TestMethod fails = TestClassDescriptor.of(Fixture.class).getMethod("fails");
+        try (EventWriter writer = new EventWriter(new DataOutputStream(bytes))) {
+            writer.classStarted(Fixture.class);
+            writer.testStarted(fails, 1);
+        }
+
+        try (EventReader reader = reader(bytes)) {
+            reader.readAll(new Events());
+            assertFalse(reader.isReported(fails));
+            assertEquals(fails, reader.running);
+        }
+    }
+}
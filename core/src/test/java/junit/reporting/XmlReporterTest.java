@@ -0,0 +1,68 @@
+package junit.reporting;
+
+import junit.Assertions;
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.annotations.ParameterizedTest;
+import junit.annotations.RepeatedTest;
+import junit.annotations.ValueSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XmlReporterTest {
+    public static class Mixed {
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2, 3})
+        public void rows(int x) {
+            Assertions.assertTrue(x != 2);
+        }
+
+        @ParameterizedTest
+        public void noSource(int x) {
+        }
+
+        @RepeatedTest(2)
+        @junit.annotations.Test
+        public void twice() {
+        }
+
+        @junit.annotations.Test
+        public void plain() {
+        }
+    }
+
+    @Test
+    void writesOneTestcasePerRowAndRepetition(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("results.xml");
+        try (Result result = JUnitCore.runClasses(RunOptions.defaults().deterministic(true).listeners(new XmlReporter(file)), Mixed.class)) {
+            assertEquals(2, result.getFailureCount());
+        }
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+        Element suite = (Element) document.getElementsByTagName("testsuite").item(0);
+        assertEquals(Mixed.class.getName(), suite.getAttribute("name"));
+        assertEquals("7", suite.getAttribute("tests"));
+        assertEquals("1", suite.getAttribute("failures"));
+        assertEquals("1", suite.getAttribute("errors"));
+
+        List<String> names = new ArrayList<>();
+        NodeList testcases = suite.getElementsByTagName("testcase");
+        for (int i = 0; i < testcases.getLength(); i++) {
+            names.add(((Element) testcases.item(i)).getAttribute("name"));
+        }
+
+        names.sort(null);
+        assertEquals(List.of("[1] 1", "[2] 2", "[3] 3", "noSource", "plain", "twice repetition 1 of 2", "twice repetition 2 of 2"), names);
+    }
+}
@@ -0,0 +1,73 @@
+package junit.selection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SelectionIndexTest {
+    private static Path saved(Path directory) throws Exception {
+        Path file = directory.resolve("selection.idx");
+        SelectionIndex index = new SelectionIndex(file);
+        index.put("com.example.ATest", new SelectionIndex.Entry(false, Map.of("com.example.A", 1L, "com.example.ATest", 2L)));
+        index.put("com.example.BTest", new SelectionIndex.Entry(true, Map.of("com.example.A", 1L)));
+        index.save();
+        return file;
+    }
+
+    @Test
+    void roundTrips(@TempDir Path directory) throws Exception {
+        SelectionIndex index = SelectionIndex.load(saved(directory));
+
+        assertFalse(index.get("com.example.ATest").hasFailed());
+        assertEquals(Map.of("com.example.A", 1L, "com.example.ATest", 2L), index.get("com.example.ATest").getDependencies());
+        assertTrue(index.get("com.example.BTest").hasFailed());
+        assertEquals(Map.of("com.example.A", 1L), index.get("com.example.BTest").getDependencies());
+    }
+
+    @Test
+    void missingFileIsEmpty(@TempDir Path directory) throws Exception {
+        assertNull(SelectionIndex.load(directory.resolve("missing.idx")).get("com.example.ATest"));
+    }
+
+    @Test
+    void truncatedFileIsEmpty(@TempDir Path directory) throws Exception {
+        Path file = saved(directory);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+        SelectionIndex index = SelectionIndex.load(file);
+        assertNull(index.get("com.example.ATest"));
+        assertNull(index.get("com.example.BTest"));
+    }
+
+    @Test
+    void corruptCountsAreEmpty(@TempDir Path directory) throws Exception {
+        Path file = saved(directory);
+        byte[] bytes = Files.readAllBytes(file);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.write(bytes, 0, 8);
+            out.writeInt(Integer.MAX_VALUE);
+            out.write(bytes, 12, bytes.length - 12);
+        }
+
+        assertNull(SelectionIndex.load(file).get("com.example.ATest"));
+    }
+
+    @Test
+    void otherFileIsEmpty(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("selection.idx");
+        Files.writeString(file, "not a selection index");
+
+        assertNull(SelectionIndex.load(file).get("com.example.ATest"));
+    }
+}
@@ -0,0 +1,83 @@
+package junit.selection;
+
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.TestClassDescriptor;
+import junit.TestMethod;
+import junit.reporting.SilentReporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestHistoryTest {
+    public static class Fixture {
+        @junit.annotations.Test
+        public void passes() {
+        }
+
+        @junit.annotations.Test
+        public void fails() {
+            throw new IllegalStateException("fails");
+        }
+    }
+
+    public static class Other {
+        @junit.annotations.Test
+        public void passes() {
+        }
+    }
+
+    private static Path recorded(Path directory) throws Exception {
+        Path file = directory.resolve("history.bin");
+        RunOptions options = RunOptions.defaults().history(file).listeners(new SilentReporter());
+        try (Result result = JUnitCore.runClasses(options, Fixture.class, Other.class)) {
+            assertEquals(1, result.getFailureCount());
+        }
+
+        return file;
+    }
+
+    private static TestMethod method(Class<?> clazz, String name) {
+        return TestClassDescriptor.of(clazz).getMethod(name);
+    }
+
+    @Test
+    void recordsOutcomesAndDurations(@TempDir Path directory) throws Exception {
+        TestHistory history = TestHistory.load(recorded(directory));
+
+        assertTrue(history.hasFailed(Fixture.class));
+        assertTrue(history.hasFailed(method(Fixture.class, "fails")));
+        assertFalse(history.hasFailed(method(Fixture.class, "passes")));
+        assertFalse(history.hasFailed(Other.class));
+        assertTrue(history.getDuration(Fixture.class) >= 0);
+        assertTrue(history.getDuration(method(Other.class, "passes")) >= 0);
+    }
+
+    @Test
+    void truncatedFileIsEmpty(@TempDir Path directory) throws Exception {
+        Path file = recorded(directory);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        TestHistory history = TestHistory.load(file);
+        assertFalse(history.hasFailed(Fixture.class));
+        assertEquals(-1, history.getDuration(Fixture.class));
+        assertEquals(-1, history.getDuration(Other.class));
+    }
+
+    @Test
+    void otherFileIsEmpty(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("history.bin");
+        Files.writeString(file, "not a history file");
+
+        assertEquals(-1, TestHistory.load(file).getDuration(Fixture.class));
+    }
+}
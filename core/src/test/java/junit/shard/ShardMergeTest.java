@@ -0,0 +1,108 @@
+package junit.shard;
+
+import junit.Failure;
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.TestListener;
+import junit.fork.EventWriter;
+import junit.fork.RemoteException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardMergeTest {
+    public static class First {
+        @junit.annotations.Test
+        public void a() {
+        }
+
+        @junit.annotations.Test
+        public void b() {
+        }
+    }
+
+    public static class Second {
+        @junit.annotations.Test
+        public void passes() {
+        }
+
+        @junit.annotations.Test
+        public void fails() {
+            throw new IllegalStateException("fails");
+        }
+    }
+
+    public static class Third {
+        @junit.annotations.Test
+        public void c() {
+        }
+    }
+
+    static class Classes implements TestListener {
+        final List<Class<?>> finished = new ArrayList<>();
+
+        @Override
+        public synchronized void classFinished(Class<?> testClass) {
+            finished.add(testClass);
+        }
+    }
+
+    private static Path shard(Path directory, int index, int count) throws Exception {
+        Path file = directory.resolve("shard-" + index + ".bin");
+        ShardRunner.run(new String[]{"--shard", index + "/" + count, "--result-file", file.toString(),
+                First.class.getName(), Second.class.getName(), Third.class.getName()});
+        return file;
+    }
+
+    @Test
+    void mergesShardResults(@TempDir Path directory) throws Exception {
+        Path first = shard(directory, 1, 2);
+        Path second = shard(directory, 2, 2);
+        assertFalse(Files.exists(directory.resolve("shard-1.bin.tmp")));
+
+        Classes classes = new Classes();
+        try (Result result = JUnitCore.mergeResults(RunOptions.defaults().listeners(classes), first, second)) {
+            assertEquals(5, result.getRunCount());
+            assertEquals(1, result.getFailureCount());
+            Failure failure = result.getFailure(0);
+            assertEquals("fails", failure.method.getName());
+            assertEquals(Second.class, failure.method.getDeclaringClass());
+            assertTrue(result.getRunTimeNanos() > 0);
+        }
+
+        assertEquals(Set.of(First.class, Second.class, Third.class), classes.finished.stream().collect(Collectors.toSet()));
+        assertEquals(3, classes.finished.size());
+    }
+
+    @Test
+    void rethrowsClassErrors(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("broken.bin");
+        try (EventWriter writer = EventWriter.create(file)) {
+            writer.classError(new IllegalStateException("could not load"));
+        }
+
+        RemoteException error = assertThrows(RemoteException.class, () -> JUnitCore.mergeResults(RunOptions.defaults().listeners(), file));
+        assertEquals(IllegalStateException.class.getName(), error.getClassName());
+        assertEquals("could not load", error.getMessage());
+    }
+
+    @Test
+    void rejectsOtherFiles(@TempDir Path directory) throws Exception {
+        Path file = Files.writeString(directory.resolve("other.bin"), "not a result file");
+
+        assertThrows(IOException.class, () -> JUnitCore.mergeResults(RunOptions.defaults().listeners(), file));
+    }
+}
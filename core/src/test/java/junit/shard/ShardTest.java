@@ -0,0 +1,56 @@
+package junit.shard;
+
+import junit.selection.TestHistory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardTest {
+    private static final Class<?>[] CLASSES = {
+            String.class, Integer.class, Long.class, Double.class, List.class, Set.class, Path.class, Thread.class, Object.class};
+
+    private static void assertPartition(TestHistory history) {
+        for (int count = 1; count <= 4; count++) {
+            List<Class<?>> all = new ArrayList<>();
+            for (int index = 1; index <= count; index++) {
+                Class<?>[] selected = new Shard(index, count).select(CLASSES, history);
+                assertArrayEquals(selected, new Shard(index, count).select(CLASSES, history), "deterministic");
+                all.addAll(Arrays.asList(selected));
+            }
+
+            assertEquals(CLASSES.length, all.size(), "disjoint for " + count + " shards");
+            assertEquals(Set.of(CLASSES), new HashSet<>(all), "complete for " + count + " shards");
+        }
+    }
+
+    @Test
+    void hashedShardsPartitionClasses() {
+        assertPartition(null);
+    }
+
+    @Test
+    void balancedShardsPartitionClasses(@TempDir Path directory) {
+        assertPartition(new TestHistory(directory.resolve("history.bin")));
+    }
+
+    @Test
+    void parsesShard() {
+        Shard shard = Shard.parse(" 2 / 3 ");
+        assertEquals(2, shard.getIndex());
+        assertEquals(3, shard.getCount());
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("2"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("a/3"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("4/3"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("1/0"));
+    }
+}
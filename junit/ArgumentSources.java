@@ -0,0 +1,278 @@
+package junit;
+
+import junit.annotations.CsvFileSource;
+import junit.annotations.MethodSource;
+import junit.annotations.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class ArgumentSources {
+    // Rows are returned as provided; callers convert each one with convert(row, types) so a bad row fails on its own.
+    static Stream<Object[]> stream(Class<?> clazz, TestMethod method) throws Exception {
+        Stream<Object[]> rows;
+        ValueSource values = method.getAnnotation(ValueSource.class);
+        MethodSource methodSource = method.getAnnotation(MethodSource.class);
+        CsvFileSource csv = method.getAnnotation(CsvFileSource.class);
+        if (values != null) {
+            rows = values(values);
+        } else if (methodSource != null) {
+            rows = provided(clazz, method, methodSource);
+        } else if (csv != null) {
+            rows = csv(clazz, csv);
+        } else {
+            throw new IllegalArgumentException(String.format("Configuration error: @ParameterizedTest on method [%s %s.%s()] must declare an argument source.",
+                    method.getReturnType(), method.getDeclaringClass().getName(), method.getName()));
+        }
+
+        return rows;
+    }
+
+    private static Stream<Object[]> values(ValueSource source) {
+        return Stream.of(
+                        IntStream.of(source.ints()).boxed(),
+                        LongStream.of(source.longs()).boxed(),
+                        DoubleStream.of(source.doubles()).boxed(),
+                        booleans(source.booleans()),
+                        Stream.of(source.strings()))
+                .flatMap(values -> values)
+                .map(value -> new Object[]{value});
+    }
+
+    private static Stream<Object> booleans(boolean[] values) {
+        return IntStream.range(0, values.length).mapToObj(i -> values[i]);
+    }
+
+    private static Stream<Object[]> provided(Class<?> clazz, TestMethod method, MethodSource source) throws Exception {
+        String name = source.value().isEmpty() ? method.getName() : source.value();
+        Class<?> owner = clazz;
+        int hash = name.indexOf('#');
+        if (hash >= 0) {
+            owner = Class.forName(name.substring(0, hash), true, clazz.getClassLoader());
+            name = name.substring(hash + 1);
+        }
+
+        Method factory = owner.getDeclaredMethod(name);
+        if (!Modifier.isStatic(factory.getModifiers())) {
+            throw new IllegalArgumentException("Argument source method should be static: " + owner.getName() + "." + name + "()");
+        }
+
+        factory.setAccessible(true);
+        Object arguments = factory.invoke(null);
+        Stream<?> elements;
+        if (arguments instanceof Stream<?> stream) {
+            elements = stream;
+        } else if (arguments instanceof BaseStream<?, ?> stream) {
+            elements = StreamSupport.stream(Spliterators.spliteratorUnknownSize(stream.iterator(), Spliterator.ORDERED), false)
+                    .onClose(stream::close);
+        } else if (arguments instanceof Iterable<?> iterable) {
+            elements = StreamSupport.stream(iterable.spliterator(), false);
+        } else if (arguments instanceof Iterator<?> iterator) {
+            elements = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        } else if (arguments != null && arguments.getClass().isArray()) {
+            elements = IntStream.range(0, Array.getLength(arguments)).mapToObj(i -> Array.get(arguments, i));
+        } else {
+            throw new IllegalArgumentException("Argument source method should return a Stream, Iterable, Iterator or array: "
+                    + owner.getName() + "." + name + "()");
+        }
+
+        return elements.map(element -> element instanceof Object[] row ? row : new Object[]{element});
+    }
+
+    private static Stream<Object[]> csv(Class<?> clazz, CsvFileSource source) throws IOException {
+        Charset charset = Charset.forName(source.encoding());
+        Path path = Path.of(source.value());
+        BufferedReader reader;
+        if (Files.exists(path)) {
+            reader = Files.newBufferedReader(path, charset);
+        } else {
+            String resource = source.value().startsWith("/") ? source.value() : "/" + source.value();
+            InputStream in = clazz.getResourceAsStream(resource);
+            if (in == null) {
+                throw new IllegalArgumentException("CSV source not found: " + source.value());
+            }
+
+            reader = new BufferedReader(new InputStreamReader(in, charset));
+        }
+
+        return reader.lines()
+                .skip(source.skipLines())
+                .filter(line -> !line.isBlank())
+                .map(line -> parseCsv(line, source.delimiter()))
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    static Object[] parseCsv(String line, char delimiter) {
+        List<Object> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == delimiter) {
+                values.add(csvValue(value, wasQuoted));
+                value.setLength(0);
+                wasQuoted = false;
+            } else {
+                value.append(c);
+            }
+        }
+
+        values.add(csvValue(value, wasQuoted));
+        return values.toArray();
+    }
+
+    private static String csvValue(StringBuilder value, boolean quoted) {
+        if (quoted) {
+            return value.toString();
+        }
+
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    static Object[] convert(Object[] row, Class<?>[] types) {
+        if (row.length != types.length) {
+            throw new IllegalArgumentException(String.format("Wrong number of arguments: expected %d but was %d %s",
+                    types.length, row.length, Arrays.toString(row)));
+        }
+
+        Object[] converted = new Object[row.length];
+        for (int i = 0; i < row.length; i++) {
+            converted[i] = convert(row[i], types[i]);
+        }
+
+        return converted;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object convert(Object value, Class<?> type) {
+        if (value == null) {
+            if (type.isPrimitive()) {
+                throw new IllegalArgumentException("Cannot convert null to " + type.getName());
+            }
+
+            return null;
+        }
+
+        Class<?> boxed = box(type);
+        if (boxed.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof Number number) {
+            Object converted = number(number, boxed);
+            if (converted != null) {
+                return converted;
+            }
+        }
+
+        if (value instanceof String string) {
+            if (boxed == Integer.class) {
+                return Integer.valueOf(string);
+            } else if (boxed == Long.class) {
+                return Long.valueOf(string);
+            } else if (boxed == Double.class) {
+                return Double.valueOf(string);
+            } else if (boxed == Float.class) {
+                return Float.valueOf(string);
+            } else if (boxed == Short.class) {
+                return Short.valueOf(string);
+            } else if (boxed == Byte.class) {
+                return Byte.valueOf(string);
+            } else if (boxed == Boolean.class) {
+                return Boolean.valueOf(string);
+            } else if (boxed == Character.class && string.length() == 1) {
+                return string.charAt(0);
+            } else if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, string);
+            }
+        }
+
+        throw new IllegalArgumentException(String.format("Cannot convert %s to %s", value, type.getName()));
+    }
+
+    private static Object number(Number number, Class<?> boxed) {
+        if (boxed == Double.class) {
+            return number.doubleValue();
+        } else if (boxed == Float.class) {
+            return number.floatValue();
+        }
+
+        long whole = number.longValue();
+        boolean integral = number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte
+                || number.doubleValue() == whole;
+        if (!integral) {
+            return null;
+        }
+
+        if (boxed == Long.class) {
+            return whole;
+        } else if (boxed == Integer.class && whole == (int) whole) {
+            return (int) whole;
+        } else if (boxed == Short.class && whole == (short) whole) {
+            return (short) whole;
+        } else if (boxed == Byte.class && whole == (byte) whole) {
+            return (byte) whole;
+        }
+
+        return null;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+
+        return switch (type.getName()) {
+            case "int" -> Integer.class;
+            case "long" -> Long.class;
+            case "double" -> Double.class;
+            case "float" -> Float.class;
+            case "short" -> Short.class;
+            case "byte" -> Byte.class;
+            case "boolean" -> Boolean.class;
+            case "char" -> Character.class;
+            default -> Void.class;
+        };
+    }
+}
@@ -10,132 +10,162 @@ import java.util.function.Supplier;
 public class Assertions {
 
     public static void assertEquals(long expected, long actual) {
-        assertEquals(expected, actual, (String) null);
+        if (expected != actual) {
+            failNotEqual(expected, actual, null);
+        }
     }
 
     public static void assertEquals(long expected, long actual, String message) {
         if (expected != actual) {
-            throw new AssertionFailedError(expected, actual, message);
+            failNotEqual(expected, actual, message);
         }
     }
 
     public static void assertEquals(long expected, long actual, Supplier<String> message) {
-        assertEquals(expected, actual, message != null ? message.get() : null);
+        if (expected != actual) {
+            failNotEqual(expected, actual, message);
+        }
     }
 
     public static void assertEquals(int expected, int actual) {
-        assertEquals(expected, actual, (String) null);
+        if (expected != actual) {
+            failNotEqual(expected, actual, null);
+        }
     }
 
     public static void assertEquals(int expected, int actual, String message) {
         if (expected != actual) {
-            throw new AssertionFailedError(expected, actual, message);
+            failNotEqual(expected, actual, message);
         }
     }
 
     public static void assertEquals(int expected, int actual, Supplier<String> message) {
-        assertEquals(expected, actual, message != null ? message.get() : null);
+        if (expected != actual) {
+            failNotEqual(expected, actual, message);
+        }
     }
 
     public static void assertEquals(double expected, double actual) {
-        assertEquals(expected, actual, (String) null);
+        if (expected != actual) {
+            failNotEqual(expected, actual, null);
+        }
     }
 
     public static void assertEquals(double expected, double actual, String message) {
         if (expected != actual) {
-            throw new AssertionFailedError(expected, actual, message);
+            failNotEqual(expected, actual, message);
         }
     }
 
     public static void assertEquals(double expected, double actual, Supplier<String> message) {
-        assertEquals(expected, actual, message != null ? message.get() : null);
+        if (expected != actual) {
+            failNotEqual(expected, actual, message);
+        }
     }
 
     public static void assertEquals(Object expected, Object actual) {
-        assertEquals(expected, actual, (String) null);
+        if (!Objects.equals(expected, actual)) {
+            failNotEqual(expected, actual, null);
+        }
     }
 
     public static void assertEquals(Object expected, Object actual, String message) {
         if (!Objects.equals(expected, actual)) {
-            throw new AssertionFailedError(expected, actual, message);
+            failNotEqual(expected, actual, message);
         }
     }
 
     public static void assertEquals(Object expected, Object actual, Supplier<String> message) {
         if (!Objects.equals(expected, actual)) {
-            throw new AssertionFailedError(expected, actual, message != null ? message.get() : null);
+            failNotEqual(expected, actual, message);
         }
     }
 
     public static void assertTrue(boolean condition) {
-        assertTrue(condition, (String) null);
+        if (!condition) {
+            failNotEqual(true, false, null);
+        }
     }
 
     public static void assertTrue(boolean condition, String message) {
         if (!condition) {
-            throw new AssertionFailedError(true, false, message);
+            failNotEqual(true, false, message);
         }
     }
 
     public static void assertTrue(boolean condition, Supplier<String> message) {
         if (!condition) {
-            throw new AssertionFailedError(true, false, message != null ? message.get() : null);
+            failNotEqual(true, false, message);
         }
     }
 
     public static void assertFalse(boolean condition) {
-        assertFalse(condition, (String) null);
+        if (condition) {
+            failNotEqual(false, true, null);
+        }
     }
 
     public static void assertFalse(boolean condition, String message) {
         if (condition) {
-            throw new AssertionFailedError(false, true, message);
+            failNotEqual(false, true, message);
         }
     }
 
     public static void assertFalse(boolean condition, Supplier<String> message) {
         if (condition) {
-            throw new AssertionFailedError(false, true, message != null ? message.get() : null);
+            failNotEqual(false, true, message);
         }
     }
 
     public static void assertNull(Object actual) {
-        assertNull(actual, (String) null);
+        if (actual != null) {
+            failNotEqual(null, actual, null);
+        }
     }
 
     public static void assertNull(Object actual, String message) {
         if (actual != null) {
-            throw new AssertionFailedError(null, actual, message);
+            failNotEqual(null, actual, message);
         }
     }
 
     public static void assertNull(Object actual, Supplier<String> message) {
         if (actual != null) {
-            throw new AssertionFailedError(null, actual, message != null ? message.get() : null);
+            failNotEqual(null, actual, message);
         }
     }
 
     public static void assertNotNull(Object actual) {
-        assertNotNull(actual, (String) null);
+        if (actual == null) {
+            failNotEqual("not <null>", null, null);
+        }
     }
 
     public static void assertNotNull(Object actual, String message) {
         if (actual == null) {
-            throw new AssertionFailedError("not <null>", null, message);
+            failNotEqual("not <null>", null, message);
         }
     }
 
     public static void assertNotNull(Object actual, Supplier<String> message) {
         if (actual == null) {
-            throw new AssertionFailedError("not <null>", null, message != null ? message.get() : null);
+            failNotEqual("not <null>", null, message);
         }
     }
 
     public static void assertThrows(Class<? extends Throwable> expectedType, Executable executable) {
-        assertThrows(expectedType, executable, (String) null);
+        assertThrows(expectedType, executable, (Object) null);
     }
 
     public static void assertThrows(Class<? extends Throwable> expectedType, Executable executable, String message) {
+        assertThrows(expectedType, executable, (Object) message);
+    }
+
+    public static void assertThrows(Class<? extends Throwable> expectedType, Executable executable, Supplier<String> message) {
+        assertThrows(expectedType, executable, (Object) message);
+    }
+
+    private static void assertThrows(Class<? extends Throwable> expectedType, Executable executable, Object messageOrSupplier) {
         try {
             executable.execute();
         } catch (Throwable e) {
@@ -143,88 +173,85 @@ public class Assertions {
                 return;
             }
 
-            throw new AssertionFailedError("Unexpected exception type thrown, expected: <"
+            fail(messageOrSupplier, "Unexpected exception type thrown, expected: <"
                     + expectedType.getName()
                     + "> but was: <" + e.getClass().getName() + ">");
         }
 
-        throw new AssertionFailedError("Expected " + expectedType.getName() + " to be thrown, but nothing was thrown.");
-    }
-
-    public static void assertThrows(Class<? extends Throwable> expectedType, Executable executable, Supplier<String> message) {
-        assertThrows(expectedType, executable, message != null ? message.get() : null);
+        fail(messageOrSupplier, "Expected " + expectedType.getName() + " to be thrown, but nothing was thrown.");
     }
 
     public static void assertTimeout(Duration timeout, Executable executable) throws Throwable {
-        assertTimeout(timeout, executable, (String) null);
+        assertTimeout(timeout, executable, (Object) null);
     }
 
     public static void assertTimeout(Duration timeout, Executable executable, String message) throws Throwable {
-        long start = System.currentTimeMillis();
-        long timeoutMs = timeout.toMillis();
-        long expectedEnd = start + timeout.toMillis();
+        assertTimeout(timeout, executable, (Object) message);
+    }
+
+    public static void assertTimeout(Duration timeout, Executable executable, Supplier<String> message) throws Throwable {
+        assertTimeout(timeout, executable, (Object) message);
+    }
+
+    private static void assertTimeout(Duration timeout, Executable executable, Object messageOrSupplier) throws Throwable {
+        long start = System.nanoTime();
         executable.execute();
-        long end = System.currentTimeMillis();
+        long elapsed = System.nanoTime() - start;
 
-        if (expectedEnd >= end) {
+        if (elapsed <= timeout.toNanos()) {
             return;
         }
 
-        long difference = end - expectedEnd;
+        String message = nullSafeGet(messageOrSupplier);
         String msg = String.format("%s execution exceeded timeout of %d ms by %d ms",
                 message == null ? "" : message + " ==> ",
-                timeoutMs,
-                difference - timeoutMs);
+                timeout.toMillis(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed - timeout.toNanos()));
         throw new AssertionFailedError(msg);
     }
 
-    public static void assertTimeout(Duration timeout, Executable executable, Supplier<String> message) throws Throwable {
-        assertTimeout(timeout, executable, message != null ? message.get() : null);
-    }
-
     public static <T> void assertTimeout(Duration timeout, ThrowingSupplier<T> supplier) throws Throwable {
-        assertTimeout(timeout, supplier, (String) null);
+        assertTimeout(timeout, () -> {
+            supplier.get();
+        }, (Object) null);
     }
 
     public static <T> void assertTimeout(Duration timeout, ThrowingSupplier<T> supplier, String message) throws Throwable {
         assertTimeout(timeout, () -> {
             supplier.get();
-        }, message);
+        }, (Object) message);
     }
 
     public static <T> void assertTimeout(Duration timeout, ThrowingSupplier<T> supplier, Supplier<String> message) throws Throwable {
-        assertTimeout(timeout, supplier, message != null ? message.get() : null);
+        assertTimeout(timeout, () -> {
+            supplier.get();
+        }, (Object) message);
     }
 
     public static void assertTimeoutPreemptively(Duration timeout, Executable executable) throws ExecutionException, InterruptedException {
-        assertTimeoutPreemptively(timeout, executable, (String) null);
+        assertTimeoutPreemptively(timeout, executable, (Supplier<String>) null);
     }
 
     public static void assertTimeoutPreemptively(Duration timeout, Executable executable, String message) throws ExecutionException, InterruptedException {
-        try (ExecutorService executorService = Executors.newSingleThreadExecutor()) {
-            Future<Boolean> future = executorService.submit(() -> {
-                try {
-                    executable.execute();
-                } catch (Throwable e) {
-                    throw new RuntimeException(e);
-                }
-            }, true);
-
-            future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            executorService.shutdownNow();
-        } catch (TimeoutException e) {
-            throw new AssertionFailedError(String.format("execution timed out after %d ms", timeout.toMillis()));
-        }
-
+        assertTimeoutPreemptively(timeout, executable, message == null ? null : () -> message);
     }
 
     public static void assertTimeoutPreemptively(Duration timeout, Executable executable, Supplier<String> message) throws ExecutionException, InterruptedException {
-        assertTimeoutPreemptively(timeout, executable, message != null ? message.get() : null);
+        try {
+            TimeoutService.shared().run(timeout, executable, message);
+        } catch (RuntimeException | Error | InterruptedException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ExecutionException(e);
+        }
     }
 
     public static <T> void assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier) throws ExecutionException, InterruptedException {
-        assertTimeoutPreemptively(timeout, supplier, (String) null);
+        assertTimeoutPreemptively(timeout, () -> {
+            supplier.get();
+        }, (Supplier<String>) null);
     }
+
     public static <T> void assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier, String message) throws ExecutionException, InterruptedException {
         assertTimeoutPreemptively(timeout, () -> {
             supplier.get();
@@ -232,7 +259,9 @@ public class Assertions {
     }
 
     public static <T> void assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier, Supplier<String> message) throws ExecutionException, InterruptedException {
-        assertTimeoutPreemptively(timeout, supplier, message != null ? message.get() : null);
+        assertTimeoutPreemptively(timeout, () -> {
+            supplier.get();
+        }, message);
     }
 
     public static void assertAll(Executable... executables) {
@@ -240,19 +269,106 @@ public class Assertions {
     }
 
     public static void assertAll(String heading, Executable... executables) {
-        List<Throwable> throwableList = new ArrayList<>();
+        List<Throwable> throwableList = null;
         for (Executable executable : executables) {
             try {
                 executable.execute();
             } catch (Throwable e) {
+                if (throwableList == null) {
+                    throwableList = new ArrayList<>();
+                }
+
                 throwableList.add(e);
             }
         }
 
-        if(throwableList.size() == 0) {
+        if (throwableList == null) {
+            return;
+        }
+
+        throw new MultipleFailuresError(heading, throwableList);
+    }
+
+    public static void assertAllConcurrently(Executable... executables) {
+        assertAllConcurrently(null, null, executables);
+    }
+
+    public static void assertAllConcurrently(String heading, Executable... executables) {
+        assertAllConcurrently(heading, null, executables);
+    }
+
+    public static void assertAllConcurrently(String heading, Duration timeout, Executable... executables) {
+        assertAllConcurrently(heading, timeout, ConcurrentChecks.VIRTUAL_THREADS, executables);
+    }
+
+    public static void assertAllConcurrently(String heading, Duration timeout, ExecutorService executor, Executable... executables) {
+        List<Future<Throwable>> futures = new ArrayList<>(executables.length);
+        for (Executable executable : executables) {
+            futures.add(executor.submit(() -> {
+                try {
+                    executable.execute();
+                    return null;
+                } catch (Throwable e) {
+                    return e;
+                }
+            }));
+        }
+
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        List<Throwable> throwableList = null;
+        for (Future<Throwable> future : futures) {
+            Throwable failure;
+            try {
+                failure = timeout == null ? future.get() : future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failure = new AssertionFailedError(String.format("execution timed out after %d ms", timeout.toMillis()));
+            } catch (ExecutionException e) {
+                failure = e.getCause();
+            } catch (InterruptedException e) {
+                for (Future<Throwable> f : futures) {
+                    f.cancel(true);
+                }
+
+                Thread.currentThread().interrupt();
+                throw new AssertionFailedError("assertAll interrupted");
+            }
+
+            if (failure != null) {
+                if (throwableList == null) {
+                    throwableList = new ArrayList<>();
+                }
+
+                throwableList.add(failure);
+            }
+        }
+
+        if (throwableList == null) {
             return;
         }
 
         throw new MultipleFailuresError(heading, throwableList);
     }
-}
\ No newline at end of file
+
+    private static void failNotEqual(Object expected, Object actual, Object messageOrSupplier) {
+        throw new AssertionFailedError(expected, actual, nullSafeGet(messageOrSupplier));
+    }
+
+    private static void fail(Object messageOrSupplier, String reason) {
+        String message = nullSafeGet(messageOrSupplier);
+        throw new AssertionFailedError(message == null ? reason : message + " ==> " + reason);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String nullSafeGet(Object messageOrSupplier) {
+        if (messageOrSupplier instanceof Supplier<?> supplier) {
+            return ((Supplier<String>) supplier).get();
+        }
+
+        return (String) messageOrSupplier;
+    }
+
+    private static class ConcurrentChecks {
+        static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
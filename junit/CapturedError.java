@@ -0,0 +1,53 @@
+package junit;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+public class CapturedError extends Throwable {
+    private static final long serialVersionUID = 1L;
+
+    final String className;
+    final StackTraceElement[] frames;
+
+    public CapturedError(String className, String message, StackTraceElement[] frames, CapturedError cause) {
+        super(message, cause, false, false);
+        this.className = className;
+        this.frames = frames;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public StackTraceElement[] getStackTrace() {
+        return frames.clone();
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? className + ": " + message : className;
+    }
+
+    @Override
+    public void printStackTrace(PrintStream s) {
+        PrintWriter writer = new PrintWriter(s);
+        printStackTrace(writer);
+        writer.flush();
+    }
+
+    @Override
+    public void printStackTrace(PrintWriter s) {
+        s.println(this);
+        for (CapturedError error = this; error != null; error = (CapturedError) error.getCause()) {
+            if (error != this) {
+                s.println("Caused by: " + error);
+            }
+
+            for (StackTraceElement frame : error.frames) {
+                s.println("\tat " + frame);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package junit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class DependencyGraph {
+    private final List<Node> order = new ArrayList<>();
+
+    public DependencyGraph(List<TestMethod> testMethods) {
+        Map<String, Node> nodes = new LinkedHashMap<>();
+        for (TestMethod method : testMethods) {
+            nodes.put(method.getName(), new Node(method));
+        }
+
+        for (Node node : nodes.values()) {
+            for (String mName : node.method.getDependsOnMethods()) {
+                Node dependency = nodes.get(mName);
+                if (dependency == null) {
+                    node.missingDependency = mName;
+                    break;
+                }
+
+                node.dependencies.add(dependency);
+            }
+        }
+
+        Components components = new Components();
+        for (Node node : nodes.values()) {
+            if (!components.index.containsKey(node)) {
+                components.visit(node);
+            }
+        }
+
+        Set<Node> visited = new HashSet<>();
+        for (Node node : nodes.values()) {
+            visit(node, visited);
+        }
+    }
+
+    public List<Node> order() {
+        return Collections.unmodifiableList(order);
+    }
+
+    public List<Node> order(Comparator<TestMethod> comparator) {
+        if (comparator == null) {
+            return order();
+        }
+
+        List<Node> sorted = new ArrayList<>(order);
+        sorted.sort((a, b) -> comparator.compare(a.method, b.method));
+        List<Node> ordered = new ArrayList<>(sorted.size());
+        Set<Node> visited = new HashSet<>();
+        for (Node node : sorted) {
+            visitOrdered(node, visited, ordered);
+        }
+
+        return ordered;
+    }
+
+    public List<Node> order(Comparator<TestMethod> comparator, Predicate<TestMethod> filter) {
+        List<Node> ordered = order(comparator);
+        if (filter == null) {
+            return ordered;
+        }
+
+        Set<Node> selected = new HashSet<>();
+        for (Node node : ordered) {
+            if (filter.test(node.method)) {
+                select(node, selected);
+            }
+        }
+
+        List<Node> filtered = new ArrayList<>(selected.size());
+        for (Node node : ordered) {
+            if (selected.contains(node)) {
+                filtered.add(node);
+            }
+        }
+
+        return filtered;
+    }
+
+    private static void select(Node node, Set<Node> selected) {
+        if (!selected.add(node)) {
+            return;
+        }
+
+        for (Node dependency : node.dependencies) {
+            select(dependency, selected);
+        }
+    }
+
+    private static void visitOrdered(Node node, Set<Node> visited, List<Node> ordered) {
+        if (!visited.add(node)) {
+            return;
+        }
+
+        for (Node dependency : node.dependencies) {
+            visitOrdered(dependency, visited, ordered);
+        }
+
+        ordered.add(node);
+    }
+
+    private void visit(Node node, Set<Node> visited) {
+        if (!visited.add(node)) {
+            return;
+        }
+
+        for (Node dependency : node.dependencies) {
+            visit(dependency, visited);
+        }
+
+        order.add(node);
+    }
+
+    // Tarjan's strongly connected components: every node of a component with more than one node (or a self
+    // dependency) is part of a cycle, not only the nodes on the path where the back edge was found.
+    private static class Components {
+        final Map<Node, Integer> index = new HashMap<>();
+        final Map<Node, Integer> lowLink = new HashMap<>();
+        final Deque<Node> stack = new ArrayDeque<>();
+        final Set<Node> onStack = new HashSet<>();
+
+        void visit(Node node) {
+            index.put(node, index.size());
+            lowLink.put(node, index.get(node));
+            stack.push(node);
+            onStack.add(node);
+            for (Node dependency : node.dependencies) {
+                if (!index.containsKey(dependency)) {
+                    visit(dependency);
+                    lowLink.put(node, Math.min(lowLink.get(node), lowLink.get(dependency)));
+                } else if (onStack.contains(dependency)) {
+                    lowLink.put(node, Math.min(lowLink.get(node), index.get(dependency)));
+                }
+            }
+
+            if (!lowLink.get(node).equals(index.get(node))) {
+                return;
+            }
+
+            List<Node> component = new ArrayList<>();
+            Node member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (member != node);
+
+            if (component.size() > 1 || node.dependencies.contains(node)) {
+                component.sort(Comparator.comparingInt(n -> index.get(n)));
+                StringBuilder sb = new StringBuilder();
+                for (Node n : component) {
+                    sb.append(n.method.getName()).append(" -> ");
+                }
+
+                sb.append(component.get(0).method.getName());
+                for (Node n : component) {
+                    n.cycle = sb.toString();
+                }
+            }
+        }
+    }
+
+    public static class Node {
+        final TestMethod method;
+        final List<Node> dependencies = new ArrayList<>();
+        String missingDependency;
+        String cycle;
+
+        Node(TestMethod method) {
+            this.method = method;
+        }
+
+        public TestMethod getMethod() {
+            return method;
+        }
+
+        public List<Node> getDependencies() {
+            return Collections.unmodifiableList(dependencies);
+        }
+
+        public boolean hasConfigurationError() {
+            return missingDependency != null || cycle != null;
+        }
+
+        public RuntimeException configurationError() {
+            if (missingDependency != null) {
+                return new IllegalArgumentException("No depending method found with name: " + missingDependency);
+            }
+
+            if (cycle != null) {
+                return new IllegalStateException("Circular dependency: " + cycle);
+            }
+
+            return null;
+        }
+    }
+}
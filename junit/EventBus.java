@@ -0,0 +1,164 @@
+package junit;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public final class EventBus implements TestListener, AutoCloseable {
+    private static final int BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final List<TestListener> listeners;
+    private final ConcurrentLinkedQueue<TestEvent> queue = new ConcurrentLinkedQueue<>();
+    private final Thread consumer;
+    private volatile boolean waiting = false;
+    private volatile boolean closed = false;
+    private RuntimeException listenerError;
+    private int listenerErrors = 0;
+
+    public EventBus(List<TestListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+        this.consumer = new Thread(this::consume, "junit-events");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void classStarted(Class<?> testClass) {
+        publish(new TestEvent(TestEvent.Type.CLASS_STARTED, testClass, null, 0, 0, null, 0, null, null, null));
+    }
+
+    @Override
+    public void classFinished(Class<?> testClass) {
+        publish(new TestEvent(TestEvent.Type.CLASS_FINISHED, testClass, null, 0, 0, null, 0, null, null, null));
+    }
+
+    @Override
+    public void testStarted(TestMethod method, int repetitions) {
+        publish(new TestEvent(TestEvent.Type.TEST_STARTED, method.getDeclaringClass(), method, 0, repetitions, null, 0, null, null, null));
+    }
+
+    @Override
+    public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+        publish(new TestEvent(TestEvent.Type.REPETITION_FINISHED, method.getDeclaringClass(), method, repetition, repetitions, failure, nanos, null, null, null));
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        publish(new TestEvent(TestEvent.Type.INVOCATION_FINISHED, method.getDeclaringClass(), method, invocation, 0, failure, nanos, null, null, name));
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        publish(new TestEvent(TestEvent.Type.TEST_FINISHED, method.getDeclaringClass(), method, 0, repetitions, failure, nanos, null, null, null));
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        publish(new TestEvent(TestEvent.Type.TEST_SKIPPED, method.getDeclaringClass(), method, 0, 0, failure, 0, null, null, null));
+    }
+
+    @Override
+    public void benchmarkFinished(TestMethod method, TestTiming timing) {
+        publish(new TestEvent(TestEvent.Type.BENCHMARK_FINISHED, method.getDeclaringClass(), method, 0, 0, null, 0, null, timing, null));
+    }
+
+    @Override
+    public void failure(Failure failure) {
+        publish(new TestEvent(TestEvent.Type.FAILURE, failure.method.getDeclaringClass(), failure.method, 0, 0, failure, 0, null, null, null));
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        publish(new TestEvent(TestEvent.Type.RUN_FINISHED, null, null, 0, 0, null, 0, result, null, null));
+    }
+
+    private void publish(TestEvent event) {
+        queue.offer(event);
+        if (waiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private void consume() {
+        int batch = 0;
+        while (true) {
+            TestEvent event = queue.poll();
+            if (event != null) {
+                dispatch(event);
+                if (++batch < BATCH_SIZE) {
+                    continue;
+                }
+            }
+
+            flushListeners();
+            batch = 0;
+            if (event != null) {
+                continue;
+            }
+
+            if (closed && queue.isEmpty()) {
+                return;
+            }
+
+            waiting = true;
+            if (queue.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+
+            waiting = false;
+        }
+    }
+
+    private void dispatch(TestEvent event) {
+        for (TestListener listener : listeners) {
+            try {
+                event.dispatch(listener);
+            } catch (RuntimeException e) {
+                listenerFailed(e);
+            }
+        }
+    }
+
+    private void flushListeners() {
+        for (TestListener listener : listeners) {
+            try {
+                listener.flush();
+            } catch (RuntimeException e) {
+                listenerFailed(e);
+            }
+        }
+    }
+
+    private void listenerFailed(RuntimeException e) {
+        if (listenerError == null) {
+            listenerError = e;
+        }
+
+        listenerErrors++;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                consumer.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (listenerError != null) {
+            throw new IllegalStateException(String.format("Test listener failed %d time(s)", listenerErrors), listenerError);
+        }
+    }
+}
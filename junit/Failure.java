@@ -1,8 +1,6 @@
 package junit;
 
-import junit.annotations.DisplayName;
-
-import java.lang.reflect.Method;
+import java.io.PrintStream;
 
 public class Failure {
     public TestMethod method;
@@ -15,17 +13,20 @@ public class Failure {
 
     @Override
     public String toString() {
-        DisplayName dnAnn = method.getDeclaredAnnotation(DisplayName.class);
         return String.format("%s() [X] %s",
-                dnAnn != null ? dnAnn.value() : method.getName(),
+                method.getDisplayName(),
                 error.getMessage());
     }
 
     public void printStackTrace() {
-        System.out.printf("%s:%s()%n",
+        printStackTrace(System.out);
+    }
+
+    public void printStackTrace(PrintStream out) {
+        out.printf("%s:%s()%n",
                 method.getDeclaringClass().getSimpleName(), method.getName());
-        System.out.printf(" MethodSource [className = '%s', methodName = '%s', methodParameterTypes = '']%n     ",
+        out.printf(" MethodSource [className = '%s', methodName = '%s', methodParameterTypes = '']%n     ",
                 method.getDeclaringClass().getName(), method.getName());
-        error.printStackTrace(System.out);
+        error.printStackTrace(out);
     }
 }
@@ -0,0 +1,95 @@
+package junit;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class FailureBudget {
+    private final Result result;
+    private final int maxFailures;
+    private final double maxFailureRate;
+    private final int minimumTests;
+    private final boolean limited;
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Set<Thread> running = new HashSet<>();
+    private final Set<Thread> cancelled = new HashSet<>();
+    private volatile String abortReason;
+
+    FailureBudget(RunOptions options, Result result) {
+        this.result = result;
+        this.maxFailures = options.maxFailures;
+        this.maxFailureRate = options.maxFailureRate;
+        this.minimumTests = options.minimumTestsForRate;
+        this.limited = maxFailures != Integer.MAX_VALUE || minimumTests != Integer.MAX_VALUE;
+    }
+
+    static FailureBudget unlimited() {
+        return new FailureBudget(RunOptions.defaults(), null);
+    }
+
+    boolean isAborted() {
+        return abortReason != null;
+    }
+
+    String abortReason() {
+        return abortReason;
+    }
+
+    void testFinished(Class<?> testClass, boolean passed, int classTests, int classFailures) {
+        if (!limited) {
+            return;
+        }
+
+        if (!passed && failures.incrementAndGet() >= maxFailures) {
+            abort(maxFailures == 1
+                    ? "Fail-fast after first failure"
+                    : String.format("Failure budget of %d failures exhausted", maxFailures));
+        } else if (classTests >= minimumTests && classFailures > maxFailureRate * classTests) {
+            abort(String.format("Failure rate %d/%d in %s exceeded %.0f%%",
+                    classFailures, classTests, testClass.getName(), maxFailureRate * 100));
+        }
+    }
+
+    synchronized void abort(String reason) {
+        if (abortReason != null) {
+            return;
+        }
+
+        abortReason = reason;
+        if (result != null) {
+            result.abort(reason);
+        }
+
+        for (Thread thread : running) {
+            cancelled.add(thread);
+            thread.interrupt();
+        }
+    }
+
+    void started() {
+        if (!limited) {
+            return;
+        }
+
+        synchronized (this) {
+            running.add(Thread.currentThread());
+        }
+    }
+
+    boolean finished() {
+        if (!limited) {
+            return false;
+        }
+
+        Thread thread = Thread.currentThread();
+        synchronized (this) {
+            running.remove(thread);
+            if (!cancelled.remove(thread)) {
+                return false;
+            }
+        }
+
+        Thread.interrupted();
+        return true;
+    }
+}
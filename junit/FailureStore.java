@@ -0,0 +1,261 @@
+package junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class FailureStore extends AbstractList<Failure> implements AutoCloseable {
+    private static final int MAX_FRAMES = 32;
+    private static final int MAX_CAUSES = 8;
+    private static final int MAX_MESSAGE = 16 * 1024;
+    private static final int MAX_DISTINCT_CAUSES = 1024;
+
+    private final int fullTracesPerCause;
+    private final int spillThreshold;
+    private Path spillFile;
+    private final List<Failure> memory = new ArrayList<>();
+    private long[] locations = new long[64];
+    private int size = 0;
+    private int compactInMemory = 0;
+    private final Map<String, Integer> causes = new HashMap<>();
+    private final Map<StackTraceElement, StackTraceElement> frames = new HashMap<>();
+    private final Map<List<StackTraceElement>, Integer> traceIds = new HashMap<>();
+    private final List<StackTraceElement[]> traces = new ArrayList<>();
+    private final Map<TestMethod, Integer> methodIds = new HashMap<>();
+    private final List<TestMethod> methods = new ArrayList<>();
+    private RandomAccessFile spill;
+    private long spillLength = 0;
+    private boolean closed = false;
+
+    FailureStore(int fullTracesPerCause, int spillThreshold, Path spillFile) {
+        this.fullTracesPerCause = fullTracesPerCause;
+        this.spillThreshold = spillThreshold;
+        this.spillFile = spillFile;
+    }
+
+    @Override
+    public synchronized boolean add(Failure failure) {
+        if (closed) {
+            throw new IllegalStateException("Failure store is closed");
+        }
+
+        if (size == locations.length) {
+            locations = Arrays.copyOf(locations, size * 2);
+        }
+
+        if (fullTrace(failure.error)) {
+            locations[size++] = -(memory.size() + 1);
+            memory.add(failure);
+        } else if (compactInMemory < spillThreshold) {
+            compactInMemory++;
+            locations[size++] = -(memory.size() + 1);
+            memory.add(new Failure(failure.method, capture(failure.error, null, 0)));
+        } else {
+            locations[size++] = write(failure);
+        }
+
+        return true;
+    }
+
+    @Override
+    public synchronized Failure get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        long location = locations[index];
+        if (location >= 0 && closed) {
+            throw new IllegalStateException("Failure store is closed, spilled failures are gone");
+        }
+
+        return location < 0 ? memory.get((int) -location - 1) : read(location);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (spill == null) {
+            return;
+        }
+
+        try {
+            spill.close();
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not remove spilled failures " + spillFile, e);
+        } finally {
+            spill = null;
+        }
+    }
+
+    private boolean fullTrace(Throwable error) {
+        String cause = cause(error);
+        Integer count = causes.get(cause);
+        if (count == null ? fullTracesPerCause == 0 || causes.size() >= MAX_DISTINCT_CAUSES : count >= fullTracesPerCause) {
+            return false;
+        }
+
+        causes.put(cause, count == null ? 1 : count + 1);
+        return true;
+    }
+
+    private static String cause(Throwable error) {
+        Throwable root = error;
+        for (int i = 0; i < MAX_CAUSES && root.getCause() != null && root.getCause() != root; i++) {
+            root = root.getCause();
+        }
+
+        String className = root instanceof CapturedError captured ? captured.className : root.getClass().getName();
+        // Assertion failures are all thrown from junit.Assertions, so the call site is the first frame outside junit.
+        for (StackTraceElement frame : root.getStackTrace()) {
+            if (!frame.getClassName().startsWith("junit.")) {
+                return className + " at " + frame;
+            }
+        }
+
+        return className;
+    }
+
+    private CapturedError capture(Throwable error, StackTraceElement[] enclosing, int depth) {
+        StackTraceElement[] trace = error.getStackTrace();
+        Throwable cause = error.getCause();
+        CapturedError captured = cause == null || cause == error || depth + 1 >= MAX_CAUSES
+                ? null
+                : capture(cause, trace, depth + 1);
+        String className = error instanceof CapturedError c ? c.className : error.getClass().getName();
+        return new CapturedError(className, message(error.getMessage()), traces.get(intern(trim(trace, enclosing))), captured);
+    }
+
+    private static StackTraceElement[] trim(StackTraceElement[] trace, StackTraceElement[] enclosing) {
+        int end = trace.length;
+        if (enclosing != null) {
+            int j = enclosing.length - 1;
+            while (end > 0 && j >= 0 && trace[end - 1].equals(enclosing[j])) {
+                end--;
+                j--;
+            }
+        }
+
+        for (int i = 0; i < end; i++) {
+            if (trace[i].getClassName().equals(TestMethod.class.getName())) {
+                end = i;
+                break;
+            }
+        }
+
+        return Arrays.copyOf(trace, Math.min(end, MAX_FRAMES));
+    }
+
+    private int intern(StackTraceElement[] trace) {
+        for (int i = 0; i < trace.length; i++) {
+            trace[i] = frames.computeIfAbsent(trace[i], frame -> frame);
+        }
+
+        return traceIds.computeIfAbsent(List.of(trace), key -> {
+            traces.add(trace);
+            return traces.size() - 1;
+        });
+    }
+
+    private static String message(String message) {
+        return message != null && message.length() > MAX_MESSAGE ? message.substring(0, MAX_MESSAGE) : message;
+    }
+
+    private long write(Failure failure) {
+        CapturedError captured = capture(failure.error, null, 0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(methodIds.computeIfAbsent(failure.method, method -> {
+                methods.add(method);
+                return methods.size() - 1;
+            }));
+            for (CapturedError error = captured; error != null; error = (CapturedError) error.getCause()) {
+                out.writeBoolean(true);
+                out.writeUTF(error.className);
+                out.writeBoolean(error.getMessage() != null);
+                if (error.getMessage() != null) {
+                    out.writeUTF(error.getMessage());
+                }
+
+                out.writeInt(traceIds.get(List.of(error.frames)));
+            }
+
+            out.writeBoolean(false);
+            byte[] record = new byte[bytes.size() + 4];
+            ByteBuffer.wrap(record).putInt(bytes.size()).put(bytes.toByteArray());
+            RandomAccessFile file = spill();
+            long offset = spillLength;
+            file.seek(offset);
+            file.write(record);
+            spillLength += record.length;
+            return offset;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill failure to " + spillFile, e);
+        }
+    }
+
+    private Failure read(long offset) {
+        try {
+            spill.seek(offset);
+            byte[] record = new byte[spill.readInt()];
+            spill.readFully(record);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+            TestMethod method = methods.get(in.readInt());
+            List<String[]> chain = new ArrayList<>();
+            List<Integer> chainTraces = new ArrayList<>();
+            while (in.readBoolean()) {
+                String className = in.readUTF();
+                String message = in.readBoolean() ? in.readUTF() : null;
+                chain.add(new String[]{className, message});
+                chainTraces.add(in.readInt());
+            }
+
+            CapturedError error = null;
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                error = new CapturedError(chain.get(i)[0], chain.get(i)[1], traces.get(chainTraces.get(i)), error);
+            }
+
+            return new Failure(method, error);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled failure from " + spillFile, e);
+        }
+    }
+
+    private RandomAccessFile spill() throws IOException {
+        if (spill == null) {
+            if (spillFile == null) {
+                spillFile = Files.createTempFile("junit-failures", ".bin");
+            } else {
+                Files.createDirectories(spillFile.toAbsolutePath().getParent());
+            }
+
+            spill = new RandomAccessFile(spillFile.toFile(), "rw");
+            spill.setLength(0);
+            spillFile.toFile().deleteOnExit();
+        }
+
+        return spill;
+    }
+}
@@ -1,13 +1,284 @@
 package junit;
 
+import junit.fork.EventReader;
+import junit.fork.ForkCoordinator;
+import junit.selection.IncrementalSelector;
+import junit.selection.TestHistory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
 public class JUnitCore {
     public static Result runClasses(Class<?>... classes) throws Exception {
-        Result result = new Result();
-        for (Class<?> clazz : classes) {
-            TestClass testClass = new TestClass(clazz);
-            testClass.test(result);
+        return runClasses(RunOptions.defaults(), classes);
+    }
+
+    public static Result runClasses(RunOptions options, Class<?>... classes) throws Exception {
+        Result result = options.newResult();
+        Class<?>[] sharded = classes;
+        if (options.shard != null) {
+            TestHistory durations = options.shardHistory != null ? TestHistory.load(options.shardHistory) : null;
+            sharded = options.shard.select(classes, durations);
+        }
+
+        IncrementalSelector selector = null;
+        Class<?>[] selected = sharded;
+        if (options.selectionIndex != null) {
+            selector = new IncrementalSelector(options.selectionIndex);
+            selected = selector.select(sharded);
+            Set<Class<?>> run = new HashSet<>(Arrays.asList(selected));
+            for (Class<?> clazz : sharded) {
+                if (!run.contains(clazz)) {
+                    result.deselect(clazz);
+                }
+            }
+        }
+
+        TestHistory history = options.historyFile != null ? TestHistory.load(options.historyFile) : null;
+        selected = orderClasses(options, history, selected);
+        try {
+            runClasses(options, result, methodOrder(options, history), selected);
+        } catch (Exception | Error e) {
+            result.close();
+            if (selector != null) {
+                selector.invalidate(selected);
+            }
+
+            throw e;
+        }
+
+        if (selector != null) {
+            selector.update(result, selected);
+        }
+
+        if (history != null && options.updateHistory) {
+            history.record(result);
+            history.save();
         }
 
         return result;
     }
+
+    public static Result mergeResults(RunOptions options, Path... resultFiles) throws Exception {
+        Result result = options.newResult();
+        List<Throwable> errors = new ArrayList<>();
+        try (EventBus bus = new EventBus(options.listeners())) {
+            long runNanos = 0;
+            try {
+                ResultRecorder recorder = new ResultRecorder(result, bus, false);
+                for (Path file : resultFiles) {
+                    try (EventReader reader = EventReader.open(file)) {
+                        reader.readAll(recorder);
+                        reader.getClassNanos().forEach(result::addClassTime);
+                        errors.addAll(reader.getClassErrors());
+                        runNanos = Math.max(runNanos, reader.getRunNanos());
+                        if (reader.getAbortReason() != null && !result.isAborted()) {
+                            result.abort(reader.getAbortReason());
+                        }
+                    }
+                }
+            } finally {
+                result.setRunTime(runNanos);
+                bus.runFinished(result);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            result.close();
+            Throwable first = errors.get(0);
+            if (first instanceof Exception e) {
+                throw e;
+            } else if (first instanceof Error e) {
+                throw e;
+            }
+
+            throw new RuntimeException(first);
+        }
+
+        return result;
+    }
+
+    public static void reportError(RunOptions options, Throwable error) {
+        for (TestListener listener : options.listeners()) {
+            listener.runError(error);
+            listener.flush();
+        }
+    }
+
+    private static Class<?>[] orderClasses(RunOptions options, TestHistory history, Class<?>[] classes) {
+        Comparator<Class<?>> order = null;
+        if (history != null) {
+            order = Comparator.comparing(clazz -> !history.hasFailed(clazz));
+            if (options.parallelClasses) {
+                order = order.thenComparing(Comparator.comparingLong((Class<?> clazz) -> {
+                    long nanos = history.getDuration(clazz);
+                    return nanos < 0 ? Long.MAX_VALUE : nanos;
+                }).reversed());
+            }
+        }
+
+        if (options.deterministic) {
+            Comparator<Class<?>> byName = Comparator.comparing(Class::getName);
+            order = order == null ? byName : order.thenComparing(byName);
+        }
+
+        if (order == null) {
+            return classes;
+        }
+
+        Class<?>[] ordered = classes.clone();
+        Arrays.sort(ordered, order);
+        return ordered;
+    }
+
+    private static Comparator<TestMethod> methodOrder(RunOptions options, TestHistory history) {
+        Comparator<TestMethod> order = null;
+        if (history != null) {
+            order = Comparator.comparing(method -> !history.hasFailed(method));
+        }
+
+        if (options.deterministic) {
+            Comparator<TestMethod> byName = Comparator.comparing(TestMethod::getName);
+            order = order == null ? byName : order.thenComparing(byName);
+        }
+
+        return order;
+    }
+
+    private static void runClasses(RunOptions options, Result result, Comparator<TestMethod> order, Class<?>... classes) throws Exception {
+        try (EventBus bus = new EventBus(options.listeners())) {
+            PinningMonitor pinning = options.pinningThreshold != null && options.virtualThreads ? new PinningMonitor(options.pinningThreshold) : null;
+            long start = System.nanoTime();
+            try {
+                execute(options, new FailureBudget(options, result), order, result, bus, classes);
+            } finally {
+                if (pinning != null) {
+                    pinning.close();
+                    result.addPinnedThreads(pinning.getReports());
+                }
+
+                result.setRunTime(System.nanoTime() - start);
+                bus.runFinished(result);
+            }
+        }
+    }
+
+    private static void execute(RunOptions options, FailureBudget budget, Comparator<TestMethod> order, Result result, TestListener listener, Class<?>... classes) throws Exception {
+        if (options.forks > 0) {
+            TagFilter tags = options.tagFilter();
+            new ForkCoordinator(options.forks, options.forkJvmArgs, options.forkWorkerArgs())
+                    .run(classes, new ResultRecorder(result, listener, budget), budget::isAborted, clazz -> plannedTests(clazz, tags));
+            return;
+        }
+
+        if (!options.parallelClasses && !options.parallelMethods && !options.virtualThreads) {
+            run(options, budget, order, result, listener, classes, null, null);
+            return;
+        }
+
+        if (options.virtualThreads) {
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                ExecutorService limited = options.maxConcurrency == Integer.MAX_VALUE
+                        ? threads
+                        : new LimitedExecutor(threads, options.maxConcurrency);
+                if (options.parallelMethods || !options.parallelClasses) {
+                    run(options, budget, order, result, listener, classes, threads, limited);
+                } else {
+                    run(options, budget, order, result, listener, classes, limited, null);
+                }
+            }
+
+            return;
+        }
+
+        ExecutorService executor = options.executor != null ? options.executor : new ForkJoinPool(options.parallelism);
+        ExecutorService methodExecutor = null;
+        if (options.parallelMethods) {
+            methodExecutor = options.parallelClasses ? new ForkJoinPool(options.parallelism) : executor;
+        }
+
+        try {
+            run(options, budget, order, result, listener, classes, executor, methodExecutor);
+        } finally {
+            if (executor != options.executor) {
+                executor.shutdown();
+            }
+
+            if (methodExecutor != null && methodExecutor != executor) {
+                methodExecutor.shutdown();
+            }
+        }
+    }
+
+    private static List<TestMethod> plannedTests(Class<?> clazz, TagFilter tags) {
+        return TestClassDescriptor.of(clazz).graph.order(null, tags == null ? null : method -> tags.accepts(clazz, method)).stream()
+                .map(DependencyGraph.Node::getMethod)
+                .toList();
+    }
+
+    private static void run(RunOptions options, FailureBudget budget, Comparator<TestMethod> order, Result result, TestListener listener, Class<?>[] classes,
+                            ExecutorService classExecutor, ExecutorService methodExecutor) throws Exception {
+        ResourceMonitor resources = options.resourceMetrics ? new ResourceMonitor() : null;
+        TagFilter tags = options.tagFilter();
+        try (SharedFixtures fixtures = SharedFixtures.plan(classes)) {
+            if (!options.parallelClasses) {
+                for (Class<?> clazz : classes) {
+                    if (budget.isAborted()) {
+                        break;
+                    }
+
+                    TestClass testClass = new TestClass(clazz, listener, methodExecutor, budget, order, resources, fixtures, tags);
+                    testClass.test(result);
+                }
+
+                return;
+            }
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (Class<?> clazz : classes) {
+                futures.add(classExecutor.submit(() -> {
+                    if (budget.isAborted()) {
+                        return null;
+                    }
+
+                    TestClass testClass = new TestClass(clazz, listener, methodExecutor, budget, order, resources, fixtures, tags);
+                    testClass.test(result);
+                    return null;
+                }));
+            }
+
+            awaitAll(futures);
+        }
+    }
+
+    static void awaitAll(List<Future<?>> futures) throws Exception {
+        Throwable first = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (first == null) {
+                    first = e.getCause();
+                }
+            }
+        }
+
+        if (first instanceof Exception e) {
+            throw e;
+        } else if (first instanceof Error e) {
+            throw e;
+        } else if (first != null) {
+            throw new RuntimeException(first);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package junit;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+
+public class LambdaInvoker implements MethodInvoker {
+    private final Consumer<Object> consumer;
+    private final MethodHandleInvoker fallback;
+
+    public LambdaInvoker(Method method) {
+        this.fallback = new MethodHandleInvoker(method);
+        this.consumer = Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                ? null
+                : spin(method);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object> spin(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        CallSite site;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            MethodHandle target = lookup.unreflect(method);
+            site = LambdaMetafactory.metafactory(lookup,
+                    "accept",
+                    MethodType.methodType(Consumer.class),
+                    MethodType.methodType(void.class, Object.class),
+                    target,
+                    MethodType.methodType(void.class, owner));
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            return null;
+        }
+
+        try {
+            return (Consumer<Object>) site.getTarget().invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot link test method: " + method, e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object instance) throws Throwable {
+        if (consumer == null) {
+            return fallback.invoke(instance);
+        }
+
+        consumer.accept(instance);
+        return null;
+    }
+
+    @Override
+    public Object invoke(Object instance, Object... args) throws Throwable {
+        if (consumer == null || args.length != 0) {
+            return fallback.invoke(instance, args);
+        }
+
+        consumer.accept(instance);
+        return null;
+    }
+}
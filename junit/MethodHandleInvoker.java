@@ -0,0 +1,50 @@
+package junit;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+public class MethodHandleInvoker implements MethodInvoker {
+    private final MethodHandle handle;
+    private final MethodHandle spreader;
+    private final int parameterCount;
+
+    public MethodHandleInvoker(Method method) {
+        MethodHandle target;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access test method: " + method, e);
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            target = MethodHandles.dropArguments(target, 0, Object.class);
+        }
+
+        this.parameterCount = method.getParameterCount();
+        this.handle = target.asType(MethodType.genericMethodType(parameterCount + 1));
+        this.spreader = handle.asSpreader(1, Object[].class, parameterCount);
+    }
+
+    @Override
+    public Object invoke(Object instance) throws Throwable {
+        if (parameterCount != 0) {
+            return invoke(instance, new Object[0]);
+        }
+
+        return handle.invokeExact(instance);
+    }
+
+    @Override
+    public Object invoke(Object instance, Object... args) throws Throwable {
+        if (args.length != parameterCount) {
+            throw new IllegalArgumentException(String.format("Wrong number of arguments: expected %d but was %d",
+                    parameterCount, args.length));
+        }
+
+        return spreader.invokeExact(instance, args);
+    }
+}
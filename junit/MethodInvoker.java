@@ -0,0 +1,7 @@
+package junit;
+
+public interface MethodInvoker {
+    Object invoke(Object instance) throws Throwable;
+
+    Object invoke(Object instance, Object... args) throws Throwable;
+}
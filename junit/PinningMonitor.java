@@ -0,0 +1,53 @@
+package junit;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PinningMonitor implements AutoCloseable {
+    private static final int MAX_FRAMES = 5;
+
+    private final RecordingStream stream = new RecordingStream();
+    private final List<String> reports = new ArrayList<>();
+
+    public PinningMonitor(Duration threshold) {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("  Virtual thread pinned for %d ms", event.getDuration().toMillis()));
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            for (int i = 0; i < Math.min(MAX_FRAMES, frames.size()); i++) {
+                RecordedFrame frame = frames.get(i);
+                sb.append(String.format("%n      at %s.%s(line %d)",
+                        frame.getMethod().getType().getName(),
+                        frame.getMethod().getName(),
+                        frame.getLineNumber()));
+            }
+        }
+
+        synchronized (reports) {
+            reports.add(sb.toString());
+        }
+    }
+
+    public List<String> getReports() {
+        synchronized (reports) {
+            return new ArrayList<>(reports);
+        }
+    }
+
+    @Override
+    public void close() {
+        stream.stop();
+        stream.close();
+    }
+}
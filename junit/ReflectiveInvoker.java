@@ -0,0 +1,31 @@
+package junit;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class ReflectiveInvoker implements MethodInvoker {
+    private final Method method;
+
+    public ReflectiveInvoker(Method method) {
+        this.method = method;
+        this.method.setAccessible(true);
+    }
+
+    @Override
+    public Object invoke(Object instance) throws Throwable {
+        try {
+            return method.invoke(instance);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public Object invoke(Object instance, Object... args) throws Throwable {
+        try {
+            return method.invoke(instance, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
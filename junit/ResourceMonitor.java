@@ -0,0 +1,89 @@
+package junit;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ResourceMonitor {
+    private final ThreadMXBean threads;
+    private final com.sun.management.ThreadMXBean allocationThreads;
+    private final boolean cpuTime;
+    private final boolean allocations;
+    private final GarbageCollectorMXBean[] collectors;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong starts = new AtomicLong();
+
+    ResourceMonitor() {
+        this.threads = ManagementFactory.getThreadMXBean();
+        this.allocationThreads = threads instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+        this.cpuTime = threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        this.allocations = allocationThreads != null
+                && allocationThreads.isThreadAllocatedMemorySupported()
+                && allocationThreads.isThreadAllocatedMemoryEnabled();
+
+        // ZGC and Shenandoah expose each collector twice, as "... Cycles" (concurrent work) and "... Pauses".
+        // Only the pause bean of such a pair is counted; every other collector reports pause time.
+        List<GarbageCollectorMXBean> all = ManagementFactory.getGarbageCollectorMXBeans();
+        Set<String> names = new HashSet<>();
+        for (GarbageCollectorMXBean collector : all) {
+            names.add(collector.getName());
+        }
+
+        List<GarbageCollectorMXBean> pauses = new ArrayList<>();
+        for (GarbageCollectorMXBean collector : all) {
+            String name = collector.getName();
+            if (!name.endsWith(" Cycles") || !names.contains(name.substring(0, name.length() - "Cycles".length()) + "Pauses")) {
+                pauses.add(collector);
+            }
+        }
+
+        this.collectors = pauses.toArray(GarbageCollectorMXBean[]::new);
+    }
+
+    // GC counters are JVM-wide: they cover every thread, so a collection is charged to each test running
+    // while it happened. Tests that overlapped another monitored test report their GC figures as unknown (-1).
+    void run(Result result, TestMethod method, Executable executable) throws Throwable {
+        long ticket = starts.incrementAndGet();
+        boolean overlapped = active.incrementAndGet() > 1;
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount -= collector.getCollectionCount();
+            gcMillis -= collector.getCollectionTime();
+        }
+
+        long allocated = allocations ? allocationThreads.getCurrentThreadAllocatedBytes() : -1;
+        long cpu = cpuTime ? threads.getCurrentThreadCpuTime() : -1;
+        long start = System.nanoTime();
+        try {
+            executable.execute();
+        } finally {
+            long wall = System.nanoTime() - start;
+            cpu = cpu < 0 ? -1 : elapsed(cpu, threads.getCurrentThreadCpuTime());
+            allocated = allocated < 0 ? -1 : elapsed(allocated, allocationThreads.getCurrentThreadAllocatedBytes());
+            for (GarbageCollectorMXBean collector : collectors) {
+                gcCount += collector.getCollectionCount();
+                gcMillis += collector.getCollectionTime();
+            }
+
+            overlapped |= starts.get() != ticket;
+            active.decrementAndGet();
+            if (overlapped) {
+                gcCount = -1;
+                gcMillis = -1;
+            }
+
+            result.addResources(new TestResources(method, 1, wall, cpu, allocated, gcCount, gcMillis));
+        }
+    }
+
+    private static long elapsed(long start, long end) {
+        return end < 0 ? -1 : end - start;
+    }
+}
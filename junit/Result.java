@@ -1,24 +1,228 @@
 package junit;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Result implements AutoCloseable {
+    static final int DEFAULT_SLOWEST_LIMIT = 100;
 
-public class Result {
     List<Failure> failures = null;
+    FailureStore failureStore = null;
+    int runCount = 0;
+    int passedCount = 0;
+    int skippedCount = 0;
+    long runNanos = 0;
+    String abortReason = null;
+    List<Class<?>> deselected = new ArrayList<>();
+    Map<Class<?>, Long> classNanos = new LinkedHashMap<>();
+    int slowestLimit = DEFAULT_SLOWEST_LIMIT;
+    PriorityQueue<TestTiming> slowest = new PriorityQueue<>(Comparator.comparingLong(TestTiming::getTotalNanos));
+    long testNanos = 0;
+    Map<Class<?>, Long> classTestNanos = new LinkedHashMap<>();
+    Map<TestMethod, Long> testTimes = null;
+    Map<TestMethod, LongAdder> fixtureNanos = new ConcurrentHashMap<>();
+    Map<TestMethod, TestResources> resources = new ConcurrentHashMap<>();
+    List<String> pinnedThreads = new ArrayList<>();
 
-    public boolean wasSuccessful() {
+    public synchronized boolean wasSuccessful() {
         return failures == null;
     }
 
-    void addFailure(Failure failure) {
+    synchronized void addFailure(Failure failure) {
         if (failures == null) {
-            failures = new ArrayList<>();
+            failures = failureStore != null ? failureStore : new ArrayList<>();
         }
 
         failures.add(failure);
     }
 
-    public List<Failure> getFailures() {
-        return failures;
+    synchronized void storeFailures(FailureStore failureStore) {
+        this.failureStore = failureStore;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (failureStore != null) {
+            failureStore.close();
+        }
+    }
+
+    synchronized void testFinished(boolean passed) {
+        runCount++;
+        if (passed) {
+            passedCount++;
+        }
+    }
+
+    synchronized void testSkipped() {
+        runCount++;
+        skippedCount++;
+    }
+
+    synchronized void retainSlowest(int limit) {
+        slowestLimit = limit;
+    }
+
+    synchronized void recordTestTimes() {
+        testTimes = new LinkedHashMap<>();
+    }
+
+    synchronized void addTiming(TestTiming timing) {
+        testNanos += timing.totalNanos;
+        classTestNanos.merge(timing.method.getDeclaringClass(), timing.totalNanos, Long::sum);
+        if (testTimes != null) {
+            testTimes.put(timing.method, timing.totalNanos);
+        }
+
+        if (slowest.size() < slowestLimit) {
+            slowest.add(timing);
+        } else if (slowestLimit > 0 && slowest.peek().totalNanos < timing.totalNanos) {
+            slowest.poll();
+            slowest.add(timing);
+        }
+    }
+
+    synchronized void addClassTime(Class<?> clazz, long nanos) {
+        classNanos.merge(clazz, nanos, Long::sum);
+    }
+
+    void addFixtureTime(TestMethod method, long nanos) {
+        fixtureNanos.computeIfAbsent(method, k -> new LongAdder()).add(nanos);
+    }
+
+    void addResources(TestResources sample) {
+        resources.merge(sample.method, sample, TestResources::add);
+    }
+
+    synchronized void abort(String reason) {
+        if (abortReason == null) {
+            abortReason = reason;
+        }
+    }
+
+    synchronized void deselect(Class<?> clazz) {
+        deselected.add(clazz);
+    }
+
+    synchronized void addPinnedThreads(List<String> reports) {
+        pinnedThreads.addAll(reports);
+    }
+
+    synchronized void setRunTime(long nanos) {
+        runNanos = nanos;
+    }
+
+    public synchronized boolean isAborted() {
+        return abortReason != null;
+    }
+
+    public synchronized String getAbortReason() {
+        return abortReason;
+    }
+
+    public synchronized List<Class<?>> getDeselectedClasses() {
+        return new ArrayList<>(deselected);
+    }
+
+    public synchronized List<Failure> getFailures() {
+        if (failures == null) {
+            return null;
+        }
+
+        return new ArrayList<>(failures);
+    }
+
+    // Reads a single failure; unlike getFailures() this does not load every spilled failure into memory.
+    public synchronized Failure getFailure(int index) {
+        if (failures == null) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return failures.get(index);
+    }
+
+    public synchronized List<String> getPinnedThreads() {
+        return new ArrayList<>(pinnedThreads);
+    }
+
+    public synchronized int getFailureCount() {
+        return failures == null ? 0 : failures.size();
+    }
+
+    public synchronized int getRunCount() {
+        return runCount;
+    }
+
+    public synchronized int getPassedCount() {
+        return passedCount;
+    }
+
+    public synchronized int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public synchronized long getRunTimeNanos() {
+        return runNanos;
+    }
+
+    public synchronized long getTestTimeNanos() {
+        return testNanos;
+    }
+
+    public synchronized Map<Class<?>, Long> getClassTimes() {
+        return new LinkedHashMap<>(classNanos);
+    }
+
+    public synchronized Map<Class<?>, Long> getClassTestTimes() {
+        return new LinkedHashMap<>(classTestNanos);
+    }
+
+    public synchronized Map<TestMethod, Long> getTestTimes() {
+        return testTimes != null ? new LinkedHashMap<>(testTimes) : Map.of();
+    }
+
+    public synchronized List<TestTiming> getSlowestTests(int limit) {
+        return slowest.stream()
+                .sorted(Comparator.comparingLong(TestTiming::getTotalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Map<TestMethod, Long> getFixtureTimes() {
+        Map<TestMethod, Long> times = new LinkedHashMap<>();
+        fixtureNanos.entrySet().stream()
+                .sorted(Map.Entry.<TestMethod, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum)).reversed())
+                .forEach(e -> times.put(e.getKey(), e.getValue().sum()));
+        return times;
+    }
+
+    public List<TestResources> getResources() {
+        return new ArrayList<>(resources.values());
+    }
+
+    public TestResources getResources(TestMethod method) {
+        return resources.get(method);
+    }
+
+    public List<TestResources> getMostAllocating(int limit) {
+        return resources.values().stream()
+                .filter(r -> r.allocatedBytes > 0)
+                .sorted(Comparator.comparingLong(TestResources::getAllocatedBytes).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<TestResources> getMostGcPaused(int limit) {
+        return resources.values().stream()
+                .filter(r -> r.gcPauseMillis > 0)
+                .sorted(Comparator.comparingLong(TestResources::getGcPauseMillis).reversed())
+                .limit(limit)
+                .toList();
     }
 }
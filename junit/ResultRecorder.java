@@ -0,0 +1,118 @@
+package junit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class ResultRecorder implements TestListener {
+    private final Result result;
+    private final TestListener listener;
+    private final boolean timeClasses;
+    private final FailureBudget budget;
+    private final Map<Class<?>, Long> classStarts = new ConcurrentHashMap<>();
+    private final Map<TestMethod, long[]> repetitions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, int[]> classCounts = new ConcurrentHashMap<>();
+
+    ResultRecorder(Result result, TestListener listener, FailureBudget budget) {
+        this(result, listener, true, budget);
+    }
+
+    ResultRecorder(Result result, TestListener listener, boolean timeClasses) {
+        this(result, listener, timeClasses, FailureBudget.unlimited());
+    }
+
+    ResultRecorder(Result result, TestListener listener, boolean timeClasses, FailureBudget budget) {
+        this.result = result;
+        this.listener = listener;
+        this.timeClasses = timeClasses;
+        this.budget = budget;
+    }
+
+    @Override
+    public void classStarted(Class<?> testClass) {
+        if (timeClasses) {
+            classStarts.put(testClass, System.nanoTime());
+        }
+
+        listener.classStarted(testClass);
+    }
+
+    @Override
+    public void classFinished(Class<?> testClass) {
+        Long start = classStarts.remove(testClass);
+        if (start != null) {
+            result.addClassTime(testClass, System.nanoTime() - start);
+        }
+
+        listener.classFinished(testClass);
+    }
+
+    @Override
+    public void testStarted(TestMethod method, int repetitions) {
+        this.repetitions.put(method, new long[repetitions]);
+        listener.testStarted(method, repetitions);
+    }
+
+    @Override
+    public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+        long[] samples = this.repetitions.get(method);
+        if (samples != null && repetition <= samples.length) {
+            samples[repetition - 1] = nanos;
+        }
+
+        listener.repetitionFinished(method, repetition, repetitions, failure, nanos);
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        listener.invocationFinished(method, invocation, name, failure, nanos);
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        long[] samples = this.repetitions.remove(method);
+        if (repetitions > 0 && !method.isPerformanceTest()) {
+            result.addTiming(new TestTiming(method, repetitions == 1 || samples == null || samples.length != repetitions ? new long[]{nanos} : samples, nanos));
+        }
+
+        result.testFinished(failure == null);
+        listener.testFinished(method, repetitions, failure, nanos);
+        int[] counts = classCounts.computeIfAbsent(method.getDeclaringClass(), clazz -> new int[2]);
+        int tests;
+        int failures;
+        synchronized (counts) {
+            tests = ++counts[0];
+            failures = failure == null ? counts[1] : ++counts[1];
+        }
+
+        budget.testFinished(method.getDeclaringClass(), failure == null, tests, failures);
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        repetitions.remove(method);
+        result.testSkipped();
+        listener.testSkipped(method, failure);
+    }
+
+    @Override
+    public void benchmarkFinished(TestMethod method, TestTiming timing) {
+        result.addTiming(timing);
+        listener.benchmarkFinished(method, timing);
+    }
+
+    @Override
+    public void failure(Failure failure) {
+        result.addFailure(failure);
+        listener.failure(failure);
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        listener.runFinished(result);
+    }
+
+    @Override
+    public void flush() {
+        listener.flush();
+    }
+}
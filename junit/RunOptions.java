@@ -0,0 +1,319 @@
+package junit;
+
+import junit.reporting.ConsoleTreeReporter;
+
+import junit.selection.IncrementalSelector;
+import junit.selection.TestHistory;
+import junit.shard.Shard;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+public class RunOptions {
+    static final int DEFAULT_FULL_TRACES_PER_CAUSE = 10;
+
+    boolean parallelClasses = false;
+    boolean parallelMethods = false;
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    ExecutorService executor = null;
+    boolean virtualThreads = false;
+    int maxConcurrency = Integer.MAX_VALUE;
+    Duration pinningThreshold = null;
+    List<TestListener> listeners = null;
+    int maxFailures = Integer.MAX_VALUE;
+    double maxFailureRate = 1.0;
+    int minimumTestsForRate = Integer.MAX_VALUE;
+    Path selectionIndex = null;
+    Path historyFile = null;
+    boolean updateHistory = true;
+    boolean deterministic = false;
+    int forks = 0;
+    List<String> forkJvmArgs = List.of();
+    Shard shard = null;
+    boolean resourceMetrics = false;
+    int fullTracesPerCause = Integer.MAX_VALUE;
+    int failureSpillThreshold = Integer.MAX_VALUE;
+    Path failureSpillFile = null;
+    Path shardHistory = null;
+    int slowestTests = Result.DEFAULT_SLOWEST_LIMIT;
+    final Set<String> includedTags = new HashSet<>();
+    final Set<String> excludedTags = new HashSet<>();
+
+    public static RunOptions defaults() {
+        return new RunOptions();
+    }
+
+    public RunOptions parallelClasses(boolean parallelClasses) {
+        this.parallelClasses = parallelClasses;
+        return this;
+    }
+
+    public RunOptions parallelMethods(boolean parallelMethods) {
+        this.parallelMethods = parallelMethods;
+        return this;
+    }
+
+    public RunOptions parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be positive: " + parallelism);
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public RunOptions executor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public RunOptions virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    public RunOptions maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency should be positive: " + maxConcurrency);
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public RunOptions reportPinning(Duration threshold) {
+        this.pinningThreshold = threshold;
+        return this;
+    }
+
+    public RunOptions failFast() {
+        return maxFailures(1);
+    }
+
+    public RunOptions maxFailures(int maxFailures) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("Max failures should be positive: " + maxFailures);
+        }
+
+        this.maxFailures = maxFailures;
+        return this;
+    }
+
+    public RunOptions maxFailureRate(double maxFailureRate) {
+        return maxFailureRate(maxFailureRate, 10);
+    }
+
+    public RunOptions maxFailureRate(double maxFailureRate, int minimumTests) {
+        if (maxFailureRate < 0 || maxFailureRate >= 1) {
+            throw new IllegalArgumentException("Max failure rate should be between 0 and 1: " + maxFailureRate);
+        }
+
+        if (minimumTests < 1) {
+            throw new IllegalArgumentException("Minimum tests should be positive: " + minimumTests);
+        }
+
+        this.maxFailureRate = maxFailureRate;
+        this.minimumTestsForRate = minimumTests;
+        return this;
+    }
+
+    public RunOptions incremental() {
+        return incremental(IncrementalSelector.DEFAULT_INDEX);
+    }
+
+    public RunOptions incremental(Path selectionIndex) {
+        this.selectionIndex = selectionIndex;
+        return this;
+    }
+
+    public RunOptions history() {
+        return history(TestHistory.DEFAULT_FILE);
+    }
+
+    public RunOptions history(Path historyFile) {
+        return history(historyFile, true);
+    }
+
+    public RunOptions history(Path historyFile, boolean update) {
+        this.historyFile = historyFile;
+        this.updateHistory = update;
+        return this;
+    }
+
+    public RunOptions deterministic(boolean deterministic) {
+        this.deterministic = deterministic;
+        return this;
+    }
+
+    public RunOptions forks(int forks) {
+        if (forks < 0) {
+            throw new IllegalArgumentException("Forks should not be negative: " + forks);
+        }
+
+        this.forks = forks;
+        return this;
+    }
+
+    public RunOptions forkJvmArgs(String... jvmArgs) {
+        this.forkJvmArgs = List.of(jvmArgs);
+        return this;
+    }
+
+    public RunOptions resourceMetrics(boolean resourceMetrics) {
+        this.resourceMetrics = resourceMetrics;
+        return this;
+    }
+
+    public RunOptions compactFailures(int fullTracesPerCause) {
+        if (fullTracesPerCause < 0) {
+            throw new IllegalArgumentException("Full traces per cause should not be negative: " + fullTracesPerCause);
+        }
+
+        this.fullTracesPerCause = fullTracesPerCause;
+        return this;
+    }
+
+    public RunOptions spillFailures(int threshold) {
+        return spillFailures(threshold, null);
+    }
+
+    public RunOptions spillFailures(int threshold, Path file) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Spill threshold should not be negative: " + threshold);
+        }
+
+        if (fullTracesPerCause == Integer.MAX_VALUE) {
+            fullTracesPerCause = DEFAULT_FULL_TRACES_PER_CAUSE;
+        }
+
+        this.failureSpillThreshold = threshold;
+        this.failureSpillFile = file;
+        return this;
+    }
+
+    public RunOptions shard(int index, int count) {
+        return shard(new Shard(index, count));
+    }
+
+    public RunOptions shard(Shard shard) {
+        this.shard = shard;
+        return this;
+    }
+
+    public RunOptions shardBalancedBy(Path historyFile) {
+        this.shardHistory = historyFile;
+        return this;
+    }
+
+    public RunOptions slowestTests(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Slowest tests limit should not be negative: " + limit);
+        }
+
+        this.slowestTests = limit;
+        return this;
+    }
+
+    public RunOptions tags(String... tags) {
+        this.includedTags.addAll(List.of(tags));
+        return this;
+    }
+
+    public RunOptions excludeTags(String... tags) {
+        this.excludedTags.addAll(List.of(tags));
+        return this;
+    }
+
+    public RunOptions listeners(TestListener... listeners) {
+        this.listeners = List.of(listeners);
+        return this;
+    }
+
+    Result newResult() {
+        Result result = new Result();
+        result.retainSlowest(slowestTests);
+        if (historyFile != null && updateHistory) {
+            result.recordTestTimes();
+        }
+
+        if (fullTracesPerCause != Integer.MAX_VALUE) {
+            result.storeFailures(new FailureStore(fullTracesPerCause, failureSpillThreshold, failureSpillFile));
+        }
+
+        return result;
+    }
+
+    List<String> forkWorkerArgs() {
+        if (executor != null) {
+            throw new IllegalArgumentException("A custom executor cannot be used with forks");
+        }
+
+        if (pinningThreshold != null) {
+            throw new IllegalArgumentException("Pinning reports are not supported with forks");
+        }
+
+        if (resourceMetrics) {
+            throw new IllegalArgumentException("Resource metrics are not supported with forks");
+        }
+
+        List<String> args = new ArrayList<>();
+        if (parallelMethods) {
+            args.add("--parallel-methods");
+            args.add("--parallelism");
+            args.add(String.valueOf(parallelism));
+        }
+
+        if (virtualThreads) {
+            args.add("--virtual-threads");
+            if (maxConcurrency != Integer.MAX_VALUE) {
+                args.add("--max-concurrency");
+                args.add(String.valueOf(maxConcurrency));
+            }
+        }
+
+        if (maxFailures != Integer.MAX_VALUE) {
+            args.add("--max-failures");
+            args.add(String.valueOf(maxFailures));
+        }
+
+        if (minimumTestsForRate != Integer.MAX_VALUE) {
+            args.add("--max-failure-rate");
+            args.add(String.valueOf(maxFailureRate));
+            args.add(String.valueOf(minimumTestsForRate));
+        }
+
+        if (historyFile != null) {
+            args.add("--method-order");
+            args.add(historyFile.toAbsolutePath().toString());
+        }
+
+        if (deterministic) {
+            args.add("--deterministic");
+        }
+
+        for (String tag : includedTags) {
+            args.add("--tag");
+            args.add(tag);
+        }
+
+        for (String tag : excludedTags) {
+            args.add("--exclude-tag");
+            args.add(tag);
+        }
+
+        return args;
+    }
+
+    TagFilter tagFilter() {
+        return includedTags.isEmpty() && excludedTags.isEmpty() ? null : new TagFilter(includedTags, excludedTags);
+    }
+
+    List<TestListener> listeners() {
+        return listeners != null ? listeners : List.of(new ConsoleTreeReporter(System.out));
+    }
+}
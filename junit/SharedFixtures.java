@@ -0,0 +1,126 @@
+package junit;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SharedFixtures implements AutoCloseable {
+    private static final SharedFixtures NONE = new SharedFixtures();
+
+    private final Map<Class<?>, Fixture> fixtures = new ConcurrentHashMap<>();
+    private final List<RuntimeException> teardownErrors = Collections.synchronizedList(new ArrayList<>());
+
+    static SharedFixtures plan(Class<?>... classes) {
+        SharedFixtures shared = null;
+        for (Class<?> clazz : classes) {
+            for (Class<?> type : TestClassDescriptor.of(clazz).getSharedFixtureTypes()) {
+                if (shared == null) {
+                    shared = new SharedFixtures();
+                }
+
+                SharedFixtures finalShared = shared;
+
+                shared.fixtures.computeIfAbsent(type, t -> finalShared.new Fixture(t)).users.incrementAndGet();
+            }
+        }
+
+        return shared != null ? shared : NONE;
+    }
+
+    void inject(TestClassDescriptor descriptor, Object instance) {
+        for (Field field : descriptor.sharedFields) {
+            Fixture fixture = fixtures.get(field.getType());
+            if (fixture == null) {
+                throw new IllegalStateException("Shared fixture " + field.getType().getName() + " is not planned for " + descriptor.getTestClass().getName());
+            }
+
+            try {
+                field.set(Modifier.isStatic(field.getModifiers()) ? null : instance, fixture.get());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot inject shared fixture into " + field, e);
+            }
+        }
+    }
+
+    void release(Class<?> clazz) {
+        for (Class<?> type : TestClassDescriptor.of(clazz).getSharedFixtureTypes()) {
+            Fixture fixture = fixtures.get(type);
+            if (fixture != null && fixture.users.decrementAndGet() == 0) {
+                fixture.tearDown();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Fixture fixture : fixtures.values()) {
+            fixture.tearDown();
+        }
+
+        if (!teardownErrors.isEmpty()) {
+            throw teardownErrors.get(0);
+        }
+    }
+
+    private class Fixture {
+        final Class<?> type;
+        final AtomicInteger users = new AtomicInteger();
+        SuiteFixture value;
+        RuntimeException error;
+        boolean closed;
+
+        Fixture(Class<?> type) {
+            this.type = type;
+        }
+
+        synchronized SuiteFixture get() {
+            if (error != null) {
+                throw error;
+            }
+
+            if (closed) {
+                throw new IllegalStateException("Shared fixture " + type.getName() + " was already torn down");
+            }
+
+            if (value == null) {
+                try {
+                    Constructor<?> constructor = type.getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                    SuiteFixture created = (SuiteFixture) constructor.newInstance();
+                    created.setUp();
+                    value = created;
+                } catch (Exception e) {
+                    error = new IllegalStateException("Shared fixture " + type.getName() + " failed to set up", e);
+                    throw error;
+                }
+            }
+
+            return value;
+        }
+
+        synchronized void tearDown() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            if (value == null) {
+                return;
+            }
+
+            try {
+                value.tearDown();
+            } catch (Exception e) {
+                teardownErrors.add(new IllegalStateException("Shared fixture " + type.getName() + " failed to tear down", e));
+            } finally {
+                value = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package junit;
+
+public interface SuiteFixture {
+    void setUp() throws Exception;
+
+    default void tearDown() throws Exception {
+    }
+}
@@ -0,0 +1,36 @@
+package junit;
+
+import junit.annotations.Tag;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class TagFilter {
+    final Set<String> included;
+    final Set<String> excluded;
+
+    TagFilter(Set<String> included, Set<String> excluded) {
+        this.included = Set.copyOf(included);
+        this.excluded = Set.copyOf(excluded);
+    }
+
+    boolean accepts(Class<?> clazz, TestMethod method) {
+        Set<String> tags = new HashSet<>();
+        Tag classTag = clazz.getAnnotation(Tag.class);
+        if (classTag != null) {
+            tags.addAll(List.of(classTag.value()));
+        }
+
+        Tag methodTag = method.getAnnotation(Tag.class);
+        if (methodTag != null) {
+            tags.addAll(List.of(methodTag.value()));
+        }
+
+        if (!included.isEmpty() && tags.stream().noneMatch(included::contains)) {
+            return false;
+        }
+
+        return tags.stream().noneMatch(excluded::contains);
+    }
+}
@@ -1,111 +1,538 @@
 package junit;
 
-import junit.annotations.*;
+import junit.annotations.ParameterizedTest;
+import junit.annotations.PerformanceTest;
+import junit.reporting.ConsoleTreeReporter;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 public class TestClass {
     Class<?> clazz;
     Object instance;
-    Map<String, TestMethod> allMethods = new HashMap<>();
-    List<TestMethod> beforeAllMethods = new ArrayList<>();
-    List<TestMethod> beforeEachMethods = new ArrayList<>();
-    List<TestMethod> testMethods = new ArrayList<>();
-    List<TestMethod> afterEachMethods = new ArrayList<>();
-    List<TestMethod> afterAllMethods = new ArrayList<>();
+    TestListener listener;
+    ExecutorService executor;
+    TestClassDescriptor descriptor;
+    FailureBudget budget;
+    Comparator<TestMethod> order;
+    ResourceMonitor resources;
+    SharedFixtures fixtures;
+    TagFilter tags;
+    AtomicInteger finishedTests = new AtomicInteger();
+    AtomicInteger failedTests = new AtomicInteger();
 
     public TestClass(Class<?> clazz) {
+        this(clazz, new ConsoleTreeReporter(System.out), null);
+    }
+
+    public TestClass(Class<?> clazz, TestListener listener, ExecutorService executor) {
+        this(clazz, listener, executor, FailureBudget.unlimited(), null, null, SharedFixtures.plan(clazz), null);
+    }
+
+    TestClass(Class<?> clazz, TestListener listener, ExecutorService executor, FailureBudget budget, Comparator<TestMethod> order,
+              ResourceMonitor resources, SharedFixtures fixtures, TagFilter tags) {
         this.clazz = clazz;
-        this.instance = initClass(clazz);
-        extractMethods();
+        this.listener = listener;
+        this.executor = executor;
+        this.budget = budget;
+        this.order = order;
+        this.resources = resources;
+        this.fixtures = fixtures;
+        this.tags = tags;
+        this.descriptor = TestClassDescriptor.of(clazz);
+        this.instance = newInstance(clazz);
     }
 
-    private Object initClass(Class<?> clazz) {
+    private Object newInstance(Class<?> clazz) {
         try {
-            return instance = clazz.getConstructor().newInstance();
+            return clazz.getConstructor().newInstance();
         } catch (NoSuchMethodException | InvocationTargetException | InstantiationException |
                  IllegalAccessException e) {
             throw new RuntimeException("TestClass should have empty public constructor.");//todo check original message
         }
     }
 
+    private Object initClass(Class<?> clazz) {
+        Object instance = newInstance(clazz);
+        fixtures.inject(descriptor, instance);
+        return instance;
+    }
+
     public Result test(Result result) throws Exception {
-        System.out.printf("'-- %s [OK]%n", clazz.getSimpleName());
+        List<DependencyGraph.Node> nodes = descriptor.graph.order(order, tags == null ? null : method -> tags.accepts(clazz, method));
+        if (nodes.isEmpty() && tags != null) {
+            fixtures.release(clazz);
+            return result;
+        }
+
+        long classStart = System.nanoTime();
+        listener.classStarted(clazz);
+        try {
+            try {
+                fixtures.inject(descriptor, instance);
+            } catch (RuntimeException e) {
+                for (DependencyGraph.Node node : nodes) {
+                    addFailure(result, new Failure(node.getMethod(), e));
+                }
+
+                return result;
+            }
 
-        invokeMethods(instance, beforeAllMethods);
-        for (TestMethod method : testMethods) {
-            test(result, method);
+            invokeMethods(result, instance, descriptor.beforeAllMethods);
+            Set<TestMethod> successful = ConcurrentHashMap.newKeySet();
+            if (isConcurrent()) {
+                testConcurrently(result, nodes, successful);
+            } else {
+                for (DependencyGraph.Node node : nodes) {
+                    testNode(result, node, successful, instance);
+                }
+            }
+
+            invokeMethods(result, instance, descriptor.afterAllMethods);
+        } finally {
+            fixtures.release(clazz);
+            result.addClassTime(clazz, System.nanoTime() - classStart);
+            listener.classFinished(clazz);
         }
 
-        invokeMethods(instance, afterAllMethods);
         return result;
     }
 
-    private void test(Result result, TestMethod method) throws InvocationTargetException, IllegalAccessException {
-        if (method.invoked) {
-            return;
+    private boolean isConcurrent() {
+        return executor != null && !descriptor.sequential;
+    }
+
+    private void testConcurrently(Result result, List<DependencyGraph.Node> nodes, Set<TestMethod> successful) throws Exception {
+        Map<DependencyGraph.Node, CompletableFuture<Void>> futures = new HashMap<>();
+        for (DependencyGraph.Node node : nodes) {
+            CompletableFuture<?>[] dependencies = node.hasConfigurationError()
+                    ? new CompletableFuture<?>[0]
+                    : node.getDependencies().stream().map(futures::get).toArray(CompletableFuture<?>[]::new);
+            DependencyGraph.Node unscheduled = null;
+            for (int i = 0; i < dependencies.length; i++) {
+                if (dependencies[i] == null) {
+                    unscheduled = node.getDependencies().get(i);
+                    break;
+                }
+            }
+
+            if (unscheduled != null) {
+                String name = unscheduled.getMethod().getName();
+                futures.put(node, CompletableFuture.runAsync(() ->
+                        addFailure(result, new Failure(node.getMethod(), new IllegalStateException("Dependency not scheduled: " + name))), executor));
+                continue;
+            }
+
+            futures.put(node, CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                try {
+                    testNode(result, node, successful, null);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
         }
 
-        RepeatedTest rt = method.getAnnotation(RepeatedTest.class);
-        if (!validateRepeatAnnotation(result, method, rt)) {
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private void testNode(Result result, DependencyGraph.Node node, Set<TestMethod> successful, Object sharedInstance) throws Exception {
+        TestMethod method = node.getMethod();
+        if (budget.isAborted()) {
+            cancel(result, method);
             return;
         }
 
-        if (!invokeDependantMethods(result, method)) {
+        if (node.hasConfigurationError()) {
+            addFailure(result, new Failure(method, node.configurationError()));
             return;
         }
 
-        int repeats = rt != null ? rt.value() : 1;
-        if (repeats > 1) {
-            DisplayName ann = method.getAnnotation(DisplayName.class);
-            System.out.printf("  +-- %s() [OK]%n", ann != null ? ann.value() : method.getName());
+        for (DependencyGraph.Node dependency : node.getDependencies()) {
+            if (!successful.contains(dependency.getMethod())) {
+                Failure failure = new Failure(method, new IllegalStateException("Not successful depending method: " + dependency.getMethod().getName()));
+                result.addFailure(failure);
+                result.testSkipped();
+                budget.testFinished(clazz, false, finishedTests.incrementAndGet(), failedTests.incrementAndGet());
+                listener.failure(failure);
+                listener.testSkipped(method, failure);
+                return;
+            }
+        }
+
+        if (test(result, method, sharedInstance)) {
+            successful.add(method);
+        }
+    }
+
+    private boolean test(Result result, TestMethod method, Object sharedInstance) throws Exception {
+        if (method.isPerformanceTest()) {
+            return benchmark(result, method, sharedInstance);
         }
 
+        if (method.isParameterized()) {
+            return parameterized(result, method, sharedInstance);
+        }
+
+        if (!validateRepeatAnnotation(result, method)) {
+            return false;
+        }
+
+        int repeats = method.getRepeats();
+        listener.testStarted(method, repeats);
+        Failure firstFailure = null;
+        long[] repetitions = new long[repeats];
+        long testStart = System.nanoTime();
         for (int i = 1; i <= repeats; i++) {
-            invokeMethods(instance, beforeEachMethods);
-            Failure failure = invokeTestMethod(method);
-            if (repeats == 1) {
-                printNoRepeatResult(method, failure);
-            } else {
-                printRepeatResult(failure, repeats, i);
+            if (budget.isAborted()) {
+                cancel(result, method);
+                return false;
+            }
+
+            long repetitionStart = System.nanoTime();
+            Object target = sharedInstance != null ? sharedInstance : initClass(clazz);
+            invokeMethods(result, target, descriptor.beforeEachMethods);
+            budget.started();
+            Failure failure;
+            boolean cancelled;
+            try {
+                failure = invokeTestMethod(result, method, target, null);
+            } finally {
+                cancelled = budget.finished();
+            }
+
+            if (cancelled) {
+                invokeMethods(result, target, descriptor.afterEachMethods);
+                cancel(result, method);
+                return false;
             }
 
             if (failure != null) {
                 result.addFailure(failure);
+                listener.failure(failure);
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                }
             }
 
-            invokeMethods(instance, afterEachMethods);
+            invokeMethods(result, target, descriptor.afterEachMethods);
+            repetitions[i - 1] = System.nanoTime() - repetitionStart;
+            if (repeats > 1) {
+                listener.repetitionFinished(method, i, repeats, failure, repetitions[i - 1]);
+            }
         }
+
+        long testNanos = System.nanoTime() - testStart;
+        result.addTiming(new TestTiming(method, repetitions, testNanos));
+        testFinished(result, firstFailure == null);
+        listener.testFinished(method, repeats, firstFailure, testNanos);
+        return firstFailure == null;
     }
 
-    private Failure invokeTestMethod(TestMethod method) {
+    private boolean benchmark(Result result, TestMethod method, Object sharedInstance) throws Exception {
+        PerformanceTest config = method.getPerformanceTest();
+        if (!validatePerformanceAnnotation(result, method, config)) {
+            return false;
+        }
+
+        listener.testStarted(method, 1);
+        long testStart = System.nanoTime();
+        Object instance = config.freshInstance() ? null : sharedInstance != null ? sharedInstance : initClass(clazz);
+        long[] samples = new long[config.iterations()];
+        int measured = 0;
         Failure failure = null;
-        Test testAnn = method.getAnnotation(Test.class);
+        for (int i = -config.warmup(); i < samples.length && failure == null; i++) {
+            if (budget.isAborted()) {
+                cancel(result, method);
+                return false;
+            }
+
+            Object target = instance != null ? instance : initClass(clazz);
+            invokeMethods(result, target, descriptor.beforeEachMethods);
+            budget.started();
+            long start = System.nanoTime();
+            boolean cancelled;
+            try {
+                failure = invokeTestMethod(result, method, target, null);
+            } finally {
+                cancelled = budget.finished();
+            }
+
+            long nanos = System.nanoTime() - start;
+            invokeMethods(result, target, descriptor.afterEachMethods);
+            if (cancelled) {
+                cancel(result, method);
+                return false;
+            }
+
+            if (i >= 0 && failure == null) {
+                samples[measured++] = nanos;
+            }
+        }
+
+        long testNanos = System.nanoTime() - testStart;
+        TestTiming timing = new TestTiming(method, measured == samples.length ? samples : Arrays.copyOf(samples, measured), testNanos);
+        result.addTiming(timing);
+        if (failure == null) {
+            listener.benchmarkFinished(method, timing);
+            failure = checkThreshold(method, "mean", timing.getMeanNanos(), config.maxMean(), config.unit());
+        }
+
+        if (failure == null) {
+            failure = checkThreshold(method, "p99", timing.percentile(99), config.maxP99(), config.unit());
+        }
+
+        if (failure != null) {
+            result.addFailure(failure);
+            listener.failure(failure);
+        }
+
+        testFinished(result, failure == null);
+        listener.testFinished(method, 1, failure, testNanos);
+        return failure == null;
+    }
+
+    private boolean parameterized(Result result, TestMethod method, Object sharedInstance) throws Exception {
+        ParameterizedTest config = method.getParameterizedTest();
+        Stream<Object[]> rows;
         try {
-            if (testAnn.timeout() > 0) {
-                Duration duration = Duration.of(testAnn.timeout(), testAnn.timeoutUnit());
-                Assertions.assertTimeoutPreemptively(duration, () -> method.invoke(instance));
+            if (config.batchSize() < 1) {
+                throw new IllegalArgumentException(String.format("Configuration error: @ParameterizedTest on method [%s %s.%s()] must be declared with a positive 'batchSize'.",
+                        method.getReturnType(), method.getDeclaringClass().getName(), method.getName()));
+            }
+
+            rows = ArgumentSources.stream(clazz, method);
+        } catch (InvocationTargetException e) {
+            addFailure(result, new Failure(method, e.getCause()));
+            return false;
+        } catch (Exception e) {
+            addFailure(result, new Failure(method, e));
+            return false;
+        }
+
+        listener.testStarted(method, 1);
+        long testStart = System.nanoTime();
+        int batchSize = config.parallel() ? config.batchSize() : 1;
+        Failure firstFailure = null;
+        int invocations = 0;
+        try (rows) {
+            Iterator<Object[]> iterator = rows.iterator();
+            List<Object[]> batch = new ArrayList<>();
+            boolean exhausted = false;
+            while (!exhausted) {
+                if (budget.isAborted()) {
+                    throw new CancellationException();
+                }
+
+                batch.clear();
+                while (batch.size() < batchSize) {
+                    Object[] args;
+                    try {
+                        if (!iterator.hasNext()) {
+                            exhausted = true;
+                            break;
+                        }
+
+                        args = iterator.next();
+                    } catch (RuntimeException e) {
+                        Failure failure = new Failure(method, e);
+                        reportInvocation(result, method, invocations + batch.size() + 1, "[" + (invocations + batch.size() + 1) + "]", failure, 0);
+                        firstFailure = firstFailure == null ? failure : firstFailure;
+                        exhausted = true;
+                        break;
+                    }
+
+                    batch.add(args);
+                }
+
+                Failure failure = null;
+                if (config.parallel()) {
+                    failure = invokeBatch(result, method, batch, invocations);
+                } else if (!batch.isEmpty()) {
+                    failure = invokeRow(result, method, sharedInstance, batch.get(0), invocations + 1);
+                }
+
+                invocations += batch.size();
+                firstFailure = firstFailure == null ? failure : firstFailure;
+            }
+        } catch (CancellationException e) {
+            cancel(result, method);
+            return false;
+        }
+
+        long testNanos = System.nanoTime() - testStart;
+        result.addTiming(new TestTiming(method, new long[]{testNanos}, testNanos));
+        testFinished(result, firstFailure == null);
+        listener.testFinished(method, invocations, firstFailure, testNanos);
+        return firstFailure == null;
+    }
+
+    private Failure invokeBatch(Result result, TestMethod method, List<Object[]> batch, int offset) throws Exception {
+        Failure[] failures = new Failure[batch.size()];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch remaining = new CountDownLatch(failures.length);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < failures.length; i = next.getAndIncrement()) {
+                try {
+                    failures[i] = invokeRow(result, method, null, batch.get(i), offset + i + 1);
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+
+        // Helpers only pick up rows nobody has claimed yet, so the caller never waits on a helper that is still queued.
+        List<Future<?>> helpers = new ArrayList<>();
+        if (executor != null) {
+            int limit = executor instanceof ForkJoinPool pool ? pool.getParallelism() : failures.length;
+            for (int i = 1; i < Math.min(failures.length, limit); i++) {
+                helpers.add(executor.submit(worker));
+            }
+        }
+
+        worker.run();
+        for (Future<?> helper : helpers) {
+            helper.cancel(false);
+        }
+
+        remaining.await();
+        Throwable first = error.get();
+        if (first instanceof Exception e) {
+            throw e;
+        } else if (first instanceof Error e) {
+            throw e;
+        } else if (first != null) {
+            throw new RuntimeException(first);
+        }
+
+        for (Failure failure : failures) {
+            if (failure != null) {
+                return failure;
+            }
+        }
+
+        return null;
+    }
+
+    private Failure invokeRow(Result result, TestMethod method, Object sharedInstance, Object[] row, int invocation) throws Exception {
+        long start = System.nanoTime();
+        Object[] args;
+        try {
+            args = ArgumentSources.convert(row, method.getParameterTypes());
+        } catch (RuntimeException e) {
+            Failure failure = new Failure(method, e);
+            reportInvocation(result, method, invocation, "[" + invocation + "]", failure, System.nanoTime() - start);
+            return failure;
+        }
+
+        Object target = sharedInstance != null ? sharedInstance : initClass(clazz);
+        invokeMethods(result, target, descriptor.beforeEachMethods);
+        budget.started();
+        Failure failure;
+        boolean cancelled;
+        try {
+            failure = invokeTestMethod(result, method, target, args);
+        } finally {
+            cancelled = budget.finished();
+        }
+
+        invokeMethods(result, target, descriptor.afterEachMethods);
+        if (cancelled) {
+            throw new CancellationException();
+        }
+
+        reportInvocation(result, method, invocation, invocationName(method.getParameterizedTest().name(), invocation, args), failure, System.nanoTime() - start);
+        return failure;
+    }
+
+    private void reportInvocation(Result result, TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        if (failure != null) {
+            result.addFailure(failure);
+            listener.failure(failure);
+        }
+
+        listener.invocationFinished(method, invocation, name, failure, nanos);
+    }
+
+    private static String invocationName(String pattern, int invocation, Object[] args) {
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                arguments.append(", ");
+            }
+
+            String value = args[i] instanceof Object[] array ? Arrays.deepToString(array) : String.valueOf(args[i]);
+            arguments.append(value.length() > 64 ? value.substring(0, 61) + "..." : value);
+        }
+
+        return pattern.replace("{index}", String.valueOf(invocation)).replace("{arguments}", arguments);
+    }
+
+    private static Failure checkThreshold(TestMethod method, String statistic, long nanos, long limit, ChronoUnit unit) {
+        if (limit <= 0) {
+            return null;
+        }
+
+        try {
+            if (nanos <= Math.multiplyExact(unit.getDuration().toNanos(), limit)) {
+                return null;
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+
+        String unitName = unit.toString().toLowerCase();
+        return new Failure(method, new AssertionFailedError(String.format("%s of %.3f %s exceeds limit of %d %s",
+                statistic, nanos / (double) unit.getDuration().toNanos(), unitName, limit, unitName)));
+    }
+
+    private Failure invokeTestMethod(Result result, TestMethod method, Object target, Object[] args) {
+        Failure failure = null;
+        try {
+            if (method.getTimeout() != null) {
+                TimeoutService.shared().run(method.getTimeout(), () -> invoke(result, method, target, args), null);
             } else {
-                method.invoke(instance);
+                invoke(result, method, target, args);
             }
-        } catch (Throwable e) {
-            Throwable exception = e instanceof InvocationTargetException ? e.getCause() : e;
+        } catch (Throwable exception) {
             if (exception instanceof AssertionFailedError || exception instanceof MultipleFailuresError) {
                 return failure = new Failure(method, exception);
             }
 
-            if (testAnn.expectedException() != Test.NULL_ANNOTATION.class) {
-                if(testAnn.expectedException() != exception.getClass()) {
+            if (method.getExpectedException() != null) {
+                if(method.getExpectedException() != exception.getClass()) {
                     return new Failure(
                             method,
-                            new AssertionFailedError(testAnn.expectedException(), exception.getClass(), null));
+                            new AssertionFailedError(method.getExpectedException(), exception.getClass(), null));
                 }
 
                 return null;
@@ -119,88 +546,82 @@ public class TestClass {
         return null;
     }
 
-    private boolean invokeDependantMethods(Result result, TestMethod method) throws InvocationTargetException, IllegalAccessException {
-        Test testAnn = method.getAnnotation(Test.class);
-        for (String mName : testAnn.dependsOnMethods()) {
-            TestMethod depMethod = allMethods.get(mName);
-            if (depMethod == null) {
-                Failure failure = new Failure(method, new IllegalArgumentException("No depending method found with name: " + mName));
-                result.addFailure(failure);
-                printNoRepeatResult(method, failure);
-                return false;
-            }
-
-            if (!depMethod.invoked) {
-                test(result, depMethod);
-            }
+    private void invoke(Result result, TestMethod method, Object target, Object[] args) throws Throwable {
+        if (resources == null) {
+            invoke(method, target, args);
+        } else {
+            resources.run(result, method, () -> invoke(method, target, args));
+        }
+    }
 
-            if (!depMethod.successful) {
-                Failure failure = new Failure(method, new IllegalStateException("Not successful depending method: " + depMethod.getName()));
-                result.addFailure(failure);
-                printNoRepeatResult(method, failure);
-                return false;
-            }
+    private static void invoke(TestMethod method, Object target, Object[] args) throws Throwable {
+        if (args == null) {
+            method.invoke(target);
+        } else {
+            method.invoke(target, args);
         }
+    }
 
-        return true;
+    private void testFinished(Result result, boolean passed) {
+        result.testFinished(passed);
+        int failed = passed ? failedTests.get() : failedTests.incrementAndGet();
+        budget.testFinished(clazz, passed, finishedTests.incrementAndGet(), failed);
     }
 
-    private static boolean validateRepeatAnnotation(Result result, TestMethod method, RepeatedTest rt) {
-        boolean isValid = (rt == null || rt.value() > 0);
+    private void cancel(Result result, TestMethod method) {
+        result.testSkipped();
+        listener.testSkipped(method, new Failure(method, new CancellationException("Run aborted: " + budget.abortReason())));
+    }
+
+    private void addFailure(Result result, Failure failure) {
+        result.addFailure(failure);
+        testFinished(result, false);
+        listener.failure(failure);
+        listener.testFinished(failure.method, 0, failure, 0);
+    }
+
+    private boolean validateRepeatAnnotation(Result result, TestMethod method) {
+        boolean isValid = method.isRepeatConfigValid();
         if (isValid) {
             return true;
         }
 
         String message = String.format("Configuration error: @RepeatedTest on method [%s %s.%s()] must be declared with a positive 'value'.",
                 method.getReturnType(), method.getDeclaringClass().getName(), method.getName());
-        Failure failure = new Failure(method, new IllegalArgumentException(message));
-        printNoRepeatResult(method, failure);
-        result.addFailure(failure);
+        addFailure(result, new Failure(method, new IllegalArgumentException(message)));
         return isValid;
     }
 
-    private void printRepeatResult(Failure failure, int max, int count) {
-        if (failure == null) {
-            System.out.printf("  |  +-- repetition %d of %d [OK]%n", count, max);
+    private boolean validatePerformanceAnnotation(Result result, TestMethod method, PerformanceTest config) {
+        String message;
+        if (config.warmup() < 0 || config.iterations() <= 0) {
+            message = "a non-negative 'warmup' and a positive 'iterations'";
+        } else if (config.maxMean() < 0 || config.maxP99() < 0) {
+            message = "a non-negative 'maxMean' and 'maxP99'";
+        } else if (config.unit().compareTo(ChronoUnit.NANOS) < 0 || config.unit().compareTo(ChronoUnit.SECONDS) > 0) {
+            message = "a 'unit' between NANOS and SECONDS";
         } else {
-            System.out.printf("  |  +-- repetition %d of %d [X] %s%n", count, max, failure.error.getMessage());
+            return true;
         }
-    }
 
-    private static void printNoRepeatResult(TestMethod method, Failure failure) {
-        DisplayName ann = method.getAnnotation(DisplayName.class);
-        if (failure == null) {
-            System.out.printf("  +-- %s() [OK]%n", ann != null ? ann.value() : method.getName());
-        } else {
-            System.out.printf("  +-- %s() [X] %s%n", ann != null ? ann.value() : method.getName(), failure.error.getMessage());
-        }
-    }
-
-    private void extractMethods() {
-        for (Method m : clazz.getDeclaredMethods()) {
-            TestMethod method = new TestMethod(m);
-            allMethods.put(method.getName(), method);
-            for (Annotation annotation : m.getDeclaredAnnotations()) {
-                Class<? extends Annotation> type = annotation.annotationType();
-
-                if (type.equals(BeforeAll.class)) {
-                    beforeAllMethods.add(method);
-                } else if (type.equals(BeforeEach.class)) {
-                    beforeEachMethods.add(method);
-                } else if (type.equals(AfterEach.class)) {
-                    afterEachMethods.add(method);
-                } else if (type.equals(AfterAll.class)) {
-                    afterAllMethods.add(method);
-                } else if (type.equals(Test.class)) {
-                    testMethods.add(method);
-                }
-            }
-        }
+        message = String.format("Configuration error: @PerformanceTest on method [%s %s.%s()] must be declared with %s.",
+                method.getReturnType(), method.getDeclaringClass().getName(), method.getName(), message);
+        addFailure(result, new Failure(method, new IllegalArgumentException(message)));
+        return false;
     }
 
-    private static void invokeMethods(Object instance, List<TestMethod> beforeAllMethods) throws InvocationTargetException, IllegalAccessException {
-        for (TestMethod method : beforeAllMethods) {
-            method.invoke(instance);
+    private static void invokeMethods(Result result, Object instance, List<TestMethod> methods) throws Exception {
+        for (TestMethod method : methods) {
+            long start = System.nanoTime();
+            try {
+                method.invoke(instance);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            } finally {
+                result.addFixtureTime(method, System.nanoTime() - start);
+            }
         }
     }
 
@@ -0,0 +1,141 @@
+package junit;
+
+import junit.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TestClassDescriptor {
+    private static final ClassValue<TestClassDescriptor> CACHE = new ClassValue<>() {
+        @Override
+        protected TestClassDescriptor computeValue(Class<?> type) {
+            return new TestClassDescriptor(type);
+        }
+    };
+
+    final Class<?> clazz;
+    final boolean sequential;
+    final Map<String, TestMethod> allMethods;
+    final List<TestMethod> beforeAllMethods;
+    final List<TestMethod> beforeEachMethods;
+    final List<TestMethod> testMethods;
+    final List<TestMethod> afterEachMethods;
+    final List<TestMethod> afterAllMethods;
+    final DependencyGraph graph;
+    final List<Field> sharedFields;
+    final Set<Class<?>> sharedFixtureTypes;
+
+    public static TestClassDescriptor of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    private TestClassDescriptor(Class<?> clazz) {
+        this.clazz = clazz;
+        this.sequential = clazz.isAnnotationPresent(Sequential.class);
+
+        Map<String, TestMethod> allMethods = new HashMap<>();
+        List<TestMethod> beforeAllMethods = new ArrayList<>();
+        List<TestMethod> beforeEachMethods = new ArrayList<>();
+        List<TestMethod> testMethods = new ArrayList<>();
+        List<TestMethod> afterEachMethods = new ArrayList<>();
+        List<TestMethod> afterAllMethods = new ArrayList<>();
+        for (Method m : clazz.getDeclaredMethods()) {
+            if (m.isSynthetic() || m.getDeclaredAnnotations().length == 0) {
+                continue;
+            }
+
+            TestMethod method = new TestMethod(m);
+            allMethods.put(method.getName(), method);
+            for (Annotation annotation : m.getDeclaredAnnotations()) {
+                Class<? extends Annotation> type = annotation.annotationType();
+
+                if (type.equals(BeforeAll.class)) {
+                    beforeAllMethods.add(method);
+                } else if (type.equals(BeforeEach.class)) {
+                    beforeEachMethods.add(method);
+                } else if (type.equals(AfterEach.class)) {
+                    afterEachMethods.add(method);
+                } else if (type.equals(AfterAll.class)) {
+                    afterAllMethods.add(method);
+                } else if (type.equals(Test.class)) {
+                    testMethods.add(method);
+                } else if (type.equals(ParameterizedTest.class) && !m.isAnnotationPresent(Test.class)) {
+                    testMethods.add(method);
+                }
+            }
+        }
+
+        this.allMethods = Collections.unmodifiableMap(allMethods);
+        this.beforeAllMethods = List.copyOf(beforeAllMethods);
+        this.beforeEachMethods = List.copyOf(beforeEachMethods);
+        this.testMethods = List.copyOf(testMethods);
+        this.afterEachMethods = List.copyOf(afterEachMethods);
+        this.afterAllMethods = List.copyOf(afterAllMethods);
+        this.graph = new DependencyGraph(this.testMethods);
+
+        List<Field> sharedFields = new ArrayList<>();
+        Set<Class<?>> sharedFixtureTypes = new LinkedHashSet<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Shared.class)) {
+                if (!SuiteFixture.class.isAssignableFrom(field.getType())) {
+                    throw new IllegalArgumentException("@Shared field " + clazz.getName() + "." + field.getName() + " should be a SuiteFixture");
+                }
+
+                field.setAccessible(true);
+                sharedFields.add(field);
+                sharedFixtureTypes.add(field.getType());
+            }
+        }
+
+        this.sharedFields = List.copyOf(sharedFields);
+        this.sharedFixtureTypes = Collections.unmodifiableSet(sharedFixtureTypes);
+    }
+
+    public Class<?> getTestClass() {
+        return clazz;
+    }
+
+    public boolean isSequential() {
+        return sequential;
+    }
+
+    public TestMethod getMethod(String name) {
+        return allMethods.get(name);
+    }
+
+    public List<TestMethod> getBeforeAllMethods() {
+        return beforeAllMethods;
+    }
+
+    public List<TestMethod> getBeforeEachMethods() {
+        return beforeEachMethods;
+    }
+
+    public List<TestMethod> getTestMethods() {
+        return testMethods;
+    }
+
+    public List<TestMethod> getAfterEachMethods() {
+        return afterEachMethods;
+    }
+
+    public List<TestMethod> getAfterAllMethods() {
+        return afterAllMethods;
+    }
+
+    public Set<Class<?>> getSharedFixtureTypes() {
+        return sharedFixtureTypes;
+    }
+
+    public DependencyGraph getGraph() {
+        return graph;
+    }
+}
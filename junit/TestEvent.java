@@ -0,0 +1,55 @@
+package junit;
+
+class TestEvent {
+    enum Type {
+        CLASS_STARTED,
+        CLASS_FINISHED,
+        TEST_STARTED,
+        REPETITION_FINISHED,
+        INVOCATION_FINISHED,
+        TEST_FINISHED,
+        TEST_SKIPPED,
+        BENCHMARK_FINISHED,
+        FAILURE,
+        RUN_FINISHED
+    }
+
+    final Type type;
+    final Class<?> testClass;
+    final TestMethod method;
+    final int repetition;
+    final int repetitions;
+    final Failure failure;
+    final long nanos;
+    final Result result;
+    final TestTiming timing;
+    final String name;
+
+    TestEvent(Type type, Class<?> testClass, TestMethod method, int repetition, int repetitions, Failure failure, long nanos, Result result, TestTiming timing, String name) {
+        this.type = type;
+        this.testClass = testClass;
+        this.method = method;
+        this.repetition = repetition;
+        this.repetitions = repetitions;
+        this.failure = failure;
+        this.nanos = nanos;
+        this.result = result;
+        this.timing = timing;
+        this.name = name;
+    }
+
+    void dispatch(TestListener listener) {
+        switch (type) {
+            case CLASS_STARTED -> listener.classStarted(testClass);
+            case CLASS_FINISHED -> listener.classFinished(testClass);
+            case TEST_STARTED -> listener.testStarted(method, repetitions);
+            case REPETITION_FINISHED -> listener.repetitionFinished(method, repetition, repetitions, failure, nanos);
+            case INVOCATION_FINISHED -> listener.invocationFinished(method, repetition, name, failure, nanos);
+            case TEST_FINISHED -> listener.testFinished(method, repetitions, failure, nanos);
+            case TEST_SKIPPED -> listener.testSkipped(method, failure);
+            case BENCHMARK_FINISHED -> listener.benchmarkFinished(method, timing);
+            case FAILURE -> listener.failure(failure);
+            case RUN_FINISHED -> listener.runFinished(result);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package junit;
+
+public interface TestListener {
+    default void classStarted(Class<?> testClass) {
+    }
+
+    default void classFinished(Class<?> testClass) {
+    }
+
+    default void testStarted(TestMethod method, int repetitions) {
+    }
+
+    default void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+    }
+
+    default void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+    }
+
+    default void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+    }
+
+    default void testSkipped(TestMethod method, Failure failure) {
+    }
+
+    default void benchmarkFinished(TestMethod method, TestTiming timing) {
+    }
+
+    default void failure(Failure failure) {
+    }
+
+    default void runFinished(Result result) {
+    }
+
+    default void runError(Throwable error) {
+    }
+
+    default void flush() {
+    }
+}
@@ -1,27 +1,96 @@
 package junit;
 
 import junit.annotations.DisplayName;
+import junit.annotations.ParameterizedTest;
+import junit.annotations.PerformanceTest;
 import junit.annotations.RepeatedTest;
+import junit.annotations.Test;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
 
 public class TestMethod {
-    Method method;
-    public boolean invoked = false;
-    public boolean successful = false;
+    private static final Function<Method, MethodInvoker> DEFAULT_INVOKER = defaultInvoker(System.getProperty("junit.invoker", "lambda"));
+
+    final Method method;
+    final Function<Method, MethodInvoker> invokerFactory;
+    private volatile MethodInvoker invoker;
+    final String displayName;
+    final boolean test;
+    final Duration timeout;
+    final Class<? extends Throwable> expectedException;
+    final RepeatedTest repeatedTest;
+    final PerformanceTest performanceTest;
+    final ParameterizedTest parameterizedTest;
+    final List<String> dependsOnMethods;
 
     public TestMethod(Method method) {
+        this(method, DEFAULT_INVOKER);
+    }
+
+    public TestMethod(Method method, Function<Method, MethodInvoker> invokerFactory) {
         this.method = method;
         this.method.setAccessible(true);
+        this.invokerFactory = invokerFactory;
+
+        DisplayName dnAnn = method.getDeclaredAnnotation(DisplayName.class);
+        this.displayName = dnAnn != null ? dnAnn.value() : method.getName();
+        this.repeatedTest = method.getAnnotation(RepeatedTest.class);
+        this.performanceTest = method.getAnnotation(PerformanceTest.class);
+        this.parameterizedTest = method.getAnnotation(ParameterizedTest.class);
+
+        Test testAnn = method.getAnnotation(Test.class);
+        this.test = testAnn != null || parameterizedTest != null;
+        this.timeout = testAnn != null && testAnn.timeout() > 0 ? Duration.of(testAnn.timeout(), testAnn.timeoutUnit()) : null;
+        this.expectedException = testAnn != null && testAnn.expectedException() != Test.NULL_ANNOTATION.class
+                ? testAnn.expectedException()
+                : null;
+        this.dependsOnMethods = testAnn != null ? List.of(testAnn.dependsOnMethods()) : List.of();
     }
 
-    public Object invoke(Object instance, Object... args) throws InvocationTargetException, IllegalAccessException {
-        invoked = true;
-        Object o = method.invoke(instance, args);
-        successful = true;
-        return o;
+    public static Function<Method, MethodInvoker> invokerFactory(String name) {
+        return switch (name) {
+            case "reflection" -> ReflectiveInvoker::new;
+            case "methodhandle" -> MethodHandleInvoker::new;
+            case "lambda" -> LambdaInvoker::new;
+            default -> throw new IllegalArgumentException("Unknown invoker: " + name);
+        };
+    }
+
+    // A bad junit.invoker value must not fail the class initializer, which would break every test in the run.
+    private static Function<Method, MethodInvoker> defaultInvoker(String name) {
+        try {
+            return invokerFactory(name);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + " (junit.invoker); expected reflection, methodhandle or lambda, using lambda");
+            return LambdaInvoker::new;
+        }
+    }
+
+    public Object invoke(Object instance) throws Throwable {
+        return invoker().invoke(instance);
+    }
+
+    public Object invoke(Object instance, Object... args) throws Throwable {
+        return invoker().invoke(instance, args);
+    }
+
+    private MethodInvoker invoker() {
+        MethodInvoker invoker = this.invoker;
+        if (invoker == null) {
+            synchronized (this) {
+                invoker = this.invoker;
+                if (invoker == null) {
+                    invoker = invokerFactory.apply(method);
+                    this.invoker = invoker;
+                }
+            }
+        }
+
+        return invoker;
     }
 
     public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
@@ -36,6 +105,53 @@ public class TestMethod {
         return method.getName();
     }
 
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isTest() {
+        return test;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public Class<? extends Throwable> getExpectedException() {
+        return expectedException;
+    }
+
+    public int getRepeats() {
+        return repeatedTest != null ? repeatedTest.value() : 1;
+    }
+
+    public boolean isRepeatConfigValid() {
+        return repeatedTest == null || repeatedTest.value() > 0;
+    }
+
+    public boolean isPerformanceTest() {
+        return performanceTest != null;
+    }
+
+    public PerformanceTest getPerformanceTest() {
+        return performanceTest;
+    }
+
+    public boolean isParameterized() {
+        return parameterizedTest != null;
+    }
+
+    public ParameterizedTest getParameterizedTest() {
+        return parameterizedTest;
+    }
+
+    public Class<?>[] getParameterTypes() {
+        return method.getParameterTypes();
+    }
+
+    public List<String> getDependsOnMethods() {
+        return dependsOnMethods;
+    }
 
     public <T extends Annotation> T getDeclaredAnnotation(Class<T> annotationClass) {
         return method.getDeclaredAnnotation(annotationClass);
@@ -0,0 +1,66 @@
+package junit;
+
+public class TestResources {
+    final TestMethod method;
+    final int invocations;
+    final long wallNanos;
+    final long cpuNanos;
+    final long allocatedBytes;
+    final long gcCount;
+    final long gcPauseMillis;
+
+    public TestResources(TestMethod method, int invocations, long wallNanos, long cpuNanos, long allocatedBytes, long gcCount, long gcPauseMillis) {
+        this.method = method;
+        this.invocations = invocations;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcPauseMillis = gcPauseMillis;
+    }
+
+    TestResources add(TestResources other) {
+        return new TestResources(method, invocations + other.invocations,
+                wallNanos + other.wallNanos,
+                sum(cpuNanos, other.cpuNanos),
+                sum(allocatedBytes, other.allocatedBytes),
+                sum(gcCount, other.gcCount),
+                sum(gcPauseMillis, other.gcPauseMillis));
+    }
+
+    private static long sum(long a, long b) {
+        return a < 0 || b < 0 ? -1 : a + b;
+    }
+
+    public TestMethod getMethod() {
+        return method;
+    }
+
+    public int getInvocations() {
+        return invocations;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    public double getCpuRatio() {
+        return cpuNanos < 0 || wallNanos == 0 ? -1 : cpuNanos / (double) wallNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcPauseMillis() {
+        return gcPauseMillis;
+    }
+}
@@ -0,0 +1,82 @@
+package junit;
+
+import java.util.Arrays;
+
+public class TestTiming {
+    final TestMethod method;
+    final long[] repetitions;
+    final long totalNanos;
+    private long[] sorted;
+
+    public TestTiming(TestMethod method, long[] repetitions, long totalNanos) {
+        this.method = method;
+        this.repetitions = repetitions;
+        this.totalNanos = totalNanos;
+    }
+
+    public TestMethod getMethod() {
+        return method;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public int getRepetitionCount() {
+        return repetitions.length;
+    }
+
+    public long getRepetitionNanos(int repetition) {
+        return repetitions[repetition - 1];
+    }
+
+    public long getMeanNanos() {
+        if (repetitions.length == 0) {
+            return 0;
+        }
+
+        long sum = 0;
+        for (long nanos : repetitions) {
+            sum += nanos;
+        }
+
+        return sum / repetitions.length;
+    }
+
+    public long getStandardDeviationNanos() {
+        if (repetitions.length < 2) {
+            return 0;
+        }
+
+        double mean = getMeanNanos();
+        double sum = 0;
+        for (long nanos : repetitions) {
+            sum += (nanos - mean) * (nanos - mean);
+        }
+
+        return (long) Math.sqrt(sum / (repetitions.length - 1));
+    }
+
+    public double getOpsPerSecond() {
+        long mean = getMeanNanos();
+        return mean == 0 ? 0 : 1e9 / mean;
+    }
+
+    public synchronized long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile should be between 0 and 100: " + percentile);
+        }
+
+        if (repetitions.length == 0) {
+            return 0;
+        }
+
+        if (sorted == null) {
+            sorted = repetitions.clone();
+            Arrays.sort(sorted);
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
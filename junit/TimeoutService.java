@@ -0,0 +1,148 @@
+package junit;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class TimeoutService implements AutoCloseable {
+    private static final TimeoutService SHARED = new TimeoutService();
+
+    private final ExecutorService executor;
+    private final ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final DelayQueue<Task> deadlines = new DelayQueue<>();
+    private final Thread watchdog;
+
+    public TimeoutService() {
+        this(Executors.newCachedThreadPool(daemonThreads("junit-timeout-")));
+    }
+
+    public TimeoutService(ExecutorService executor) {
+        this.executor = executor;
+        this.watchdog = new Thread(this::watch, "junit-timeout-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    public static TimeoutService shared() {
+        return SHARED;
+    }
+
+    public void run(Duration timeout, Executable executable, Supplier<String> message) throws Throwable {
+        long start = System.nanoTime();
+        Task task = new Task(executable, timeout);
+        deadlines.add(task);
+        try {
+            (Thread.currentThread().isVirtual() ? virtualExecutor : executor).execute(task);
+            task.result.get();
+        } catch (ExecutionException e) {
+            if (task.timedOut) {
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                String prefix = message != null ? message.get() : null;
+                throw new AssertionFailedError(String.format("%sexecution timed out after %d ms, exceeded by %d ms",
+                        prefix == null ? "" : prefix + " ==> ",
+                        timeout.toMillis(),
+                        Math.max(0, elapsed - timeout.toMillis())));
+            }
+
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            task.expire();
+            throw e;
+        } finally {
+            deadlines.remove(task);
+        }
+    }
+
+    @Override
+    public void close() {
+        watchdog.interrupt();
+        executor.shutdown();
+        virtualExecutor.shutdown();
+    }
+
+    private void watch() {
+        while (true) {
+            try {
+                deadlines.take().expire();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Task implements Runnable, Delayed {
+        private final Executable executable;
+        private final long deadline;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private Thread runner;
+        private volatile boolean timedOut;
+
+        Task(Executable executable, Duration timeout) {
+            this.executable = executable;
+            this.deadline = System.nanoTime() + timeout.toNanos();
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+
+                runner = Thread.currentThread();
+            }
+
+            try {
+                executable.execute();
+                result.complete(null);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        synchronized void expire() {
+            if (result.isDone()) {
+                return;
+            }
+
+            timedOut = true;
+            result.completeExceptionally(new TimeoutException());
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
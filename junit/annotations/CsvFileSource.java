@@ -0,0 +1,18 @@
+package junit.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CsvFileSource {
+    String value();
+
+    char delimiter() default ',';
+
+    int skipLines() default 0;
+
+    String encoding() default "UTF-8";
+}
@@ -0,0 +1,16 @@
+package junit.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ParameterizedTest {
+    String name() default "[{index}] {arguments}";
+
+    boolean parallel() default false;
+
+    int batchSize() default 256;
+}
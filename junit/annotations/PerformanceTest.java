@@ -0,0 +1,23 @@
+package junit.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerformanceTest {
+    int warmup() default 5;
+
+    int iterations() default 20;
+
+    boolean freshInstance() default true;
+
+    long maxMean() default 0L;
+
+    long maxP99() default 0L;
+
+    ChronoUnit unit() default ChronoUnit.MILLIS;
+}
@@ -0,0 +1,265 @@
+package junit.bytecode;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ClassFileReader {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    final String className;
+    final String[] utf8;
+    final int[] classNames;
+    final int accessFlags;
+    final List<AnnotationInfo> annotations;
+    final List<MethodInfo> methods = new ArrayList<>();
+
+    public static class AnnotationInfo {
+        final String type;
+        final Map<String, List<String>> values = new HashMap<>();
+
+        AnnotationInfo(String type) {
+            this.type = type;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public List<String> getStrings(String element) {
+            return values.getOrDefault(element, List.of());
+        }
+    }
+
+    public static class MethodInfo {
+        final String name;
+        final String descriptor;
+        final List<AnnotationInfo> annotations;
+
+        MethodInfo(String name, String descriptor, List<AnnotationInfo> annotations) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.annotations = annotations;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        public List<AnnotationInfo> getAnnotations() {
+            return annotations;
+        }
+
+        public AnnotationInfo getAnnotation(String type) {
+            return find(annotations, type);
+        }
+    }
+
+    public ClassFileReader(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+        int count = in.readUnsignedShort();
+        utf8 = new String[count];
+        classNames = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7 -> classNames[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipBytes(2);
+                case 15 -> in.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes(4);
+                case 5, 6 -> {
+                    in.skipBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        accessFlags = in.readUnsignedShort();
+        className = binaryName(utf8[classNames[in.readUnsignedShort()]]);
+        in.readUnsignedShort();
+        in.skipBytes(2 * in.readUnsignedShort());
+
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            in.skipBytes(6);
+            readAttributes(in);
+        }
+
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            in.readUnsignedShort();
+            String name = utf8[in.readUnsignedShort()];
+            String descriptor = utf8[in.readUnsignedShort()];
+            methods.add(new MethodInfo(name, descriptor, readAttributes(in)));
+        }
+
+        annotations = readAttributes(in);
+    }
+
+    private List<AnnotationInfo> readAttributes(DataInputStream in) throws IOException {
+        List<AnnotationInfo> result = List.of();
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                in.skipBytes(length);
+                continue;
+            }
+
+            int annotationCount = in.readUnsignedShort();
+            result = new ArrayList<>(annotationCount);
+            for (int j = 0; j < annotationCount; j++) {
+                result.add(readAnnotation(in));
+            }
+        }
+
+        return result;
+    }
+
+    private AnnotationInfo readAnnotation(DataInputStream in) throws IOException {
+        AnnotationInfo annotation = new AnnotationInfo(descriptorName(utf8[in.readUnsignedShort()]));
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            readElementValue(in, utf8[in.readUnsignedShort()], annotation);
+        }
+
+        return annotation;
+    }
+
+    private void readElementValue(DataInputStream in, String element, AnnotationInfo annotation) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 's' -> annotation.values.computeIfAbsent(element, k -> new ArrayList<>()).add(utf8[in.readUnsignedShort()]);
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 'c' -> in.skipBytes(2);
+            case 'e' -> in.skipBytes(4);
+            case '@' -> readAnnotation(in);
+            case '[' -> {
+                int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    readElementValue(in, element, annotation);
+                }
+            }
+            default -> throw new IOException("Unknown element value tag " + (char) tag);
+        }
+    }
+
+    private static AnnotationInfo find(List<AnnotationInfo> annotations, String type) {
+        for (AnnotationInfo annotation : annotations) {
+            if (annotation.type.equals(type)) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+    private static String descriptorName(String descriptor) {
+        return binaryName(descriptor.substring(1, descriptor.length() - 1));
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public boolean isConcrete() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT)) == 0;
+    }
+
+    public List<AnnotationInfo> getAnnotations() {
+        return annotations;
+    }
+
+    public AnnotationInfo getAnnotation(String type) {
+        return find(annotations, type);
+    }
+
+    public List<MethodInfo> getMethods() {
+        return methods;
+    }
+
+    public Set<String> getReferencedClasses() {
+        Set<String> classes = new LinkedHashSet<>();
+        for (int nameIndex : classNames) {
+            if (nameIndex != 0) {
+                addType(classes, utf8[nameIndex]);
+            }
+        }
+
+        for (String value : utf8) {
+            if (value != null && value.indexOf(';') > 0) {
+                addDescriptorTypes(classes, value);
+            }
+        }
+
+        classes.remove(className);
+        return classes;
+    }
+
+    private static void addType(Set<String> classes, String name) {
+        if (name.startsWith("[")) {
+            addDescriptorTypes(classes, name);
+        } else {
+            classes.add(binaryName(name));
+        }
+    }
+
+    private static void addDescriptorTypes(Set<String> classes, String descriptor) {
+        int start = descriptor.indexOf('L');
+        while (start >= 0) {
+            int end = descriptor.indexOf(';', start);
+            if (end < 0) {
+                return;
+            }
+
+            String name = descriptor.substring(start + 1, end);
+            if (!isInternalName(name)) {
+                start = descriptor.indexOf('L', start + 1);
+                continue;
+            }
+
+            classes.add(binaryName(name));
+            start = descriptor.indexOf('L', end);
+        }
+    }
+
+    private static boolean isInternalName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '/' && c != '$' && !Character.isJavaIdentifierPart(c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static String binaryName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+}
@@ -0,0 +1,16 @@
+package junit.bytecode;
+
+public class Fnv1a {
+    private static final long OFFSET = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    public static long hash(byte[] bytes) {
+        long hash = OFFSET;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= PRIME;
+        }
+
+        return hash;
+    }
+}
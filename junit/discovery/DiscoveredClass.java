@@ -0,0 +1,54 @@
+package junit.discovery;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class DiscoveredClass {
+    final String className;
+    final Set<String> tags;
+    final Map<String, Set<String>> methodTags;
+
+    public DiscoveredClass(String className, Set<String> tags) {
+        this(className, tags, Map.of());
+    }
+
+    public DiscoveredClass(String className, Set<String> tags, Map<String, Set<String>> methodTags) {
+        this.className = className;
+        this.tags = Set.copyOf(tags);
+        this.methodTags = Map.copyOf(methodTags);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public Map<String, Set<String>> getMethodTags() {
+        return methodTags;
+    }
+
+    public Set<String> getTags(String methodName) {
+        Set<String> own = methodTags.get(methodName);
+        if (own == null || own.isEmpty()) {
+            return tags;
+        }
+
+        Set<String> effective = new HashSet<>(tags);
+        effective.addAll(own);
+        return effective;
+    }
+
+    public String getPackageName() {
+        int index = className.lastIndexOf('.');
+        return index < 0 ? "" : className.substring(0, index);
+    }
+
+    @Override
+    public String toString() {
+        return className + (tags.isEmpty() ? "" : " " + tags);
+    }
+}
@@ -0,0 +1,150 @@
+package junit.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+class DiscoveryIndex {
+    private static final int MAGIC = 0x4A554944;
+    private static final int VERSION = 2;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+    static class Entry {
+        final long modified;
+        final long size;
+        final List<DiscoveredClass> classes;
+
+        Entry(long modified, long size, List<DiscoveredClass> classes) {
+            this.modified = modified;
+            this.size = size;
+            this.classes = classes;
+        }
+
+        boolean matches(BasicFileAttributes attributes) {
+            return modified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
+
+    DiscoveryIndex(Path file) {
+        this.file = file;
+    }
+
+    static DiscoveryIndex load(Path file) throws IOException {
+        DiscoveryIndex index = new DiscoveryIndex(file);
+        if (file == null) {
+            return index;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return index;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                long modified = in.readLong();
+                long size = in.readLong();
+                int classCount = in.readInt();
+                List<DiscoveredClass> classes = new ArrayList<>();
+                for (int j = 0; j < classCount; j++) {
+                    String className = in.readUTF();
+                    Set<String> tags = readTags(in);
+                    int methodCount = in.readInt();
+                    Map<String, Set<String>> methodTags = new HashMap<>();
+                    for (int k = 0; k < methodCount; k++) {
+                        methodTags.put(in.readUTF(), readTags(in));
+                    }
+
+                    classes.add(new DiscoveredClass(className, tags, methodTags));
+                }
+
+                index.entries.put(key, new Entry(modified, size, classes));
+            }
+        } catch (IOException | RuntimeException e) {
+            return new DiscoveryIndex(file);
+        }
+
+        return index;
+    }
+
+    private static Set<String> readTags(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt discovery index");
+        }
+
+        Set<String> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(in.readUTF());
+        }
+
+        return tags;
+    }
+
+    private static void writeTags(DataOutputStream out, Set<String> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (String tag : tags) {
+            out.writeUTF(tag);
+        }
+    }
+
+    Entry get(String key, BasicFileAttributes attributes) {
+        used.add(key);
+        Entry entry = entries.get(key);
+        return entry != null && entry.matches(attributes) ? entry : null;
+    }
+
+    void put(String key, BasicFileAttributes attributes, List<DiscoveredClass> classes) {
+        entries.put(key, new Entry(attributes.lastModifiedTime().toMillis(), attributes.size(), classes));
+    }
+
+    void save() throws IOException {
+        if (file == null) {
+            return;
+        }
+
+        entries.keySet().retainAll(used);
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().modified);
+                out.writeLong(entry.getValue().size);
+                out.writeInt(entry.getValue().classes.size());
+                for (DiscoveredClass clazz : entry.getValue().classes) {
+                    out.writeUTF(clazz.className);
+                    writeTags(out, clazz.tags);
+                    out.writeInt(clazz.methodTags.size());
+                    for (Map.Entry<String, Set<String>> method : clazz.methodTags.entrySet()) {
+                        out.writeUTF(method.getKey());
+                        writeTags(out, method.getValue());
+                    }
+                }
+            }
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
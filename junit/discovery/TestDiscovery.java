@@ -0,0 +1,238 @@
+package junit.discovery;
+
+import junit.bytecode.ClassFileReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class TestDiscovery {
+    public static final Path DEFAULT_CACHE = Path.of(".junit", "discovery.idx");
+
+    private static final String TEST = "junit.annotations.Test";
+    private static final String PARAMETERIZED_TEST = "junit.annotations.ParameterizedTest";
+    private static final String TAG = "junit.annotations.Tag";
+
+    private final List<Path> roots;
+    private ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    private final List<String> packages = new ArrayList<>();
+    private Pattern namePattern = null;
+    private final Set<String> includedTags = new HashSet<>();
+    private final Set<String> excludedTags = new HashSet<>();
+    private Path cacheFile = null;
+
+    public TestDiscovery(Path... roots) {
+        this.roots = List.of(roots);
+    }
+
+    public static TestDiscovery classpath() {
+        return new TestDiscovery(Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> !entry.isEmpty())
+                .map(Path::of)
+                .toArray(Path[]::new));
+    }
+
+    public TestDiscovery classLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    public TestDiscovery packages(String... packages) {
+        this.packages.addAll(List.of(packages));
+        return this;
+    }
+
+    public TestDiscovery namePattern(String regex) {
+        this.namePattern = Pattern.compile(regex);
+        return this;
+    }
+
+    public TestDiscovery tags(String... tags) {
+        this.includedTags.addAll(List.of(tags));
+        return this;
+    }
+
+    public TestDiscovery excludeTags(String... tags) {
+        this.excludedTags.addAll(List.of(tags));
+        return this;
+    }
+
+    public TestDiscovery cache() {
+        return cache(DEFAULT_CACHE);
+    }
+
+    public TestDiscovery cache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        return this;
+    }
+
+    public List<DiscoveredClass> discover() throws IOException {
+        DiscoveryIndex index = DiscoveryIndex.load(cacheFile);
+        List<DiscoveredClass> classes;
+        try {
+            classes = roots.parallelStream()
+                    .flatMap(root -> scan(root, index).stream())
+                    .filter(this::accepts)
+                    .sorted(Comparator.comparing(DiscoveredClass::getClassName))
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        index.save();
+        return classes;
+    }
+
+    public Class<?>[] loadClasses() throws IOException, ClassNotFoundException {
+        List<DiscoveredClass> discovered = discover();
+        Class<?>[] classes = new Class<?>[discovered.size()];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = Class.forName(discovered.get(i).getClassName(), false, classLoader);
+        }
+
+        return classes;
+    }
+
+    private boolean accepts(DiscoveredClass clazz) {
+        if (!packages.isEmpty() && packages.stream().noneMatch(p -> clazz.className.startsWith(p + "."))) {
+            return false;
+        }
+
+        if (namePattern != null && !namePattern.matcher(clazz.className).matches()) {
+            return false;
+        }
+
+        if (clazz.methodTags.isEmpty()) {
+            return acceptsTags(clazz.tags);
+        }
+
+        return clazz.methodTags.keySet().stream().anyMatch(method -> acceptsTags(clazz.getTags(method)));
+    }
+
+    private boolean acceptsTags(Set<String> tags) {
+        if (!includedTags.isEmpty() && tags.stream().noneMatch(includedTags::contains)) {
+            return false;
+        }
+
+        return tags.stream().noneMatch(excludedTags::contains);
+    }
+
+    private static List<DiscoveredClass> scan(Path root, DiscoveryIndex index) {
+        try {
+            if (Files.isDirectory(root)) {
+                return scanDirectory(root, index);
+            }
+
+            if (Files.isRegularFile(root) && root.toString().endsWith(".jar")) {
+                return scanJar(root, index);
+            }
+
+            return List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<DiscoveredClass> scanDirectory(Path root, DiscoveryIndex index) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(file -> file.toString().endsWith(".class")).toList();
+        }
+
+        return files.parallelStream()
+                .flatMap(file -> {
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                        String key = file.toAbsolutePath().toString();
+                        DiscoveryIndex.Entry entry = index.get(key, attributes);
+                        if (entry != null) {
+                            return entry.classes.stream();
+                        }
+
+                        List<DiscoveredClass> classes = read(Files.readAllBytes(file));
+                        index.put(key, attributes, classes);
+                        return classes.stream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private static List<DiscoveredClass> scanJar(Path jar, DiscoveryIndex index) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        String key = jar.toAbsolutePath().toString();
+        DiscoveryIndex.Entry entry = index.get(key, attributes);
+        if (entry != null) {
+            return entry.classes;
+        }
+
+        List<DiscoveredClass> classes;
+        try (FileSystem fileSystem = FileSystems.newFileSystem(jar);
+             Stream<Path> walk = Files.walk(fileSystem.getPath("/"))) {
+            classes = walk.filter(file -> file.toString().endsWith(".class"))
+                    .toList()
+                    .parallelStream()
+                    .flatMap(file -> {
+                        try {
+                            return read(Files.readAllBytes(file)).stream();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .toList();
+        }
+
+        index.put(key, attributes, classes);
+        return classes;
+    }
+
+    private static List<DiscoveredClass> read(byte[] bytes) {
+        ClassFileReader reader;
+        try {
+            reader = new ClassFileReader(bytes);
+        } catch (IOException | RuntimeException e) {
+            return List.of();
+        }
+
+        if (!reader.isConcrete()) {
+            return List.of();
+        }
+
+        Set<String> tags = new HashSet<>();
+        ClassFileReader.AnnotationInfo classTag = reader.getAnnotation(TAG);
+        if (classTag != null) {
+            tags.addAll(classTag.getStrings("value"));
+        }
+
+        Map<String, Set<String>> methodTags = new HashMap<>();
+        for (ClassFileReader.MethodInfo method : reader.getMethods()) {
+            if (method.getAnnotation(TEST) == null && method.getAnnotation(PARAMETERIZED_TEST) == null) {
+                continue;
+            }
+
+            Set<String> own = methodTags.computeIfAbsent(method.getName(), name -> new HashSet<>());
+            ClassFileReader.AnnotationInfo methodTag = method.getAnnotation(TAG);
+            if (methodTag != null) {
+                own.addAll(methodTag.getStrings("value"));
+            }
+        }
+
+        return methodTags.isEmpty() ? List.of() : List.of(new DiscoveredClass(reader.getClassName(), tags, methodTags));
+    }
+}
@@ -0,0 +1,185 @@
+package junit.fork;
+
+import junit.Failure;
+import junit.TestClassDescriptor;
+import junit.TestListener;
+import junit.TestMethod;
+import junit.TestTiming;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class EventReader implements AutoCloseable {
+    private final DataInputStream in;
+    private final ClassLoader loader;
+    private final Map<String, TestClassDescriptor> descriptors = new HashMap<>();
+    final Set<Class<?>> startedClasses = new LinkedHashSet<>();
+    final List<Throwable> classErrors = new ArrayList<>();
+    final Map<Class<?>, Long> classNanos = new LinkedHashMap<>();
+    final Set<TestMethod> reported = new HashSet<>();
+    TestMethod running;
+    long runNanos = 0;
+    String abortReason = null;
+
+    public EventReader(DataInputStream in, ClassLoader loader) {
+        this.in = in;
+        this.loader = loader;
+    }
+
+    public static EventReader open(Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        try {
+            if (in.readInt() != ForkCodec.FILE_MAGIC || in.readInt() != ForkCodec.FILE_VERSION) {
+                throw new IOException("Not a test result file: " + file);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+
+        return new EventReader(in, Thread.currentThread().getContextClassLoader());
+    }
+
+    public void readAll(TestListener listener) throws IOException {
+        try {
+            while (true) {
+                read(listener);
+            }
+        } catch (EOFException e) {
+            return;
+        }
+    }
+
+    public byte read(TestListener listener) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case ForkCodec.CLASS_STARTED -> {
+                Class<?> clazz = descriptor(in.readUTF()).getTestClass();
+                startedClasses.add(clazz);
+                listener.classStarted(clazz);
+            }
+            case ForkCodec.CLASS_FINISHED -> {
+                Class<?> clazz = descriptor(in.readUTF()).getTestClass();
+                startedClasses.remove(clazz);
+                classNanos.merge(clazz, in.readLong(), Long::sum);
+                listener.classFinished(clazz);
+            }
+            case ForkCodec.TEST_STARTED -> {
+                running = method();
+                listener.testStarted(running, in.readInt());
+            }
+            case ForkCodec.REPETITION_FINISHED -> {
+                TestMethod method = method();
+                int repetition = in.readInt();
+                int repetitions = in.readInt();
+                Failure failure = failure(method.getDeclaringClass().getName());
+                listener.repetitionFinished(method, repetition, repetitions, failure, in.readLong());
+            }
+            case ForkCodec.INVOCATION_FINISHED -> {
+                TestMethod method = method();
+                int invocation = in.readInt();
+                String name = ForkCodec.readNullable(in);
+                Failure failure = failure(method.getDeclaringClass().getName());
+                listener.invocationFinished(method, invocation, name, failure, in.readLong());
+            }
+            case ForkCodec.TEST_FINISHED -> {
+                TestMethod method = method();
+                int repetitions = in.readInt();
+                Failure failure = failure(method.getDeclaringClass().getName());
+                listener.testFinished(method, repetitions, failure, in.readLong());
+                reported.add(method);
+                running = null;
+            }
+            case ForkCodec.TEST_SKIPPED -> {
+                TestMethod method = method();
+                listener.testSkipped(method, failure(method.getDeclaringClass().getName()));
+                reported.add(method);
+                running = null;
+            }
+            case ForkCodec.BENCHMARK_FINISHED -> {
+                TestMethod method = method();
+                long totalNanos = in.readLong();
+                long[] samples = new long[in.readInt()];
+                for (int i = 0; i < samples.length; i++) {
+                    samples[i] = in.readLong();
+                }
+
+                listener.benchmarkFinished(method, new TestTiming(method, samples, totalNanos));
+            }
+            case ForkCodec.FAILURE -> listener.failure(failure(in.readUTF()));
+            case ForkCodec.CLASS_ERROR -> classErrors.add(ForkCodec.readThrowable(in));
+            case ForkCodec.RUN_FINISHED -> {
+                runNanos = Math.max(runNanos, in.readLong());
+                String reason = ForkCodec.readNullable(in);
+                if (reason != null) {
+                    abortReason = reason;
+                }
+            }
+            case ForkCodec.DONE -> {
+            }
+            default -> throw new IOException("Unknown event type " + type);
+        }
+
+        return type;
+    }
+
+    boolean isReported(TestMethod method) {
+        return reported.contains(method);
+    }
+
+    public List<Throwable> getClassErrors() {
+        return classErrors;
+    }
+
+    public Map<Class<?>, Long> getClassNanos() {
+        return classNanos;
+    }
+
+    public long getRunNanos() {
+        return runNanos;
+    }
+
+    public String getAbortReason() {
+        return abortReason;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private TestMethod method() throws IOException {
+        return ForkCodec.method(descriptor(in.readUTF()), in.readUTF());
+    }
+
+    private Failure failure(String className) throws IOException {
+        return ForkCodec.readFailure(in, descriptor(className));
+    }
+
+    private TestClassDescriptor descriptor(String className) throws IOException {
+        TestClassDescriptor descriptor = descriptors.get(className);
+        if (descriptor == null) {
+            try {
+                descriptor = TestClassDescriptor.of(Class.forName(className, false, loader));
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Test class not found: " + className, e);
+            }
+
+            descriptors.put(className, descriptor);
+        }
+
+        return descriptor;
+    }
+}
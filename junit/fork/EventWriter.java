@@ -0,0 +1,171 @@
+package junit.fork;
+
+import junit.Failure;
+import junit.Result;
+import junit.TestListener;
+import junit.TestMethod;
+import junit.TestTiming;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class EventWriter implements TestListener, AutoCloseable {
+    private final DataOutputStream out;
+    private final Map<Class<?>, Long> classStarts = new ConcurrentHashMap<>();
+
+    public EventWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    public static EventWriter create(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(ForkCodec.FILE_MAGIC);
+        out.writeInt(ForkCodec.FILE_VERSION);
+        return new EventWriter(out);
+    }
+
+    @Override
+    public void classStarted(Class<?> testClass) {
+        classStarts.put(testClass, System.nanoTime());
+        write(() -> {
+            out.writeByte(ForkCodec.CLASS_STARTED);
+            out.writeUTF(testClass.getName());
+        });
+    }
+
+    @Override
+    public void classFinished(Class<?> testClass) {
+        Long start = classStarts.remove(testClass);
+        long nanos = start == null ? 0 : System.nanoTime() - start;
+        write(() -> {
+            out.writeByte(ForkCodec.CLASS_FINISHED);
+            out.writeUTF(testClass.getName());
+            out.writeLong(nanos);
+        });
+    }
+
+    @Override
+    public void testStarted(TestMethod method, int repetitions) {
+        write(() -> {
+            method(ForkCodec.TEST_STARTED, method);
+            out.writeInt(repetitions);
+        });
+    }
+
+    @Override
+    public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+        write(() -> {
+            method(ForkCodec.REPETITION_FINISHED, method);
+            out.writeInt(repetition);
+            out.writeInt(repetitions);
+            ForkCodec.writeFailure(out, failure);
+            out.writeLong(nanos);
+        });
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        write(() -> {
+            method(ForkCodec.INVOCATION_FINISHED, method);
+            out.writeInt(invocation);
+            ForkCodec.writeNullable(out, name);
+            ForkCodec.writeFailure(out, failure);
+            out.writeLong(nanos);
+        });
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        write(() -> {
+            method(ForkCodec.TEST_FINISHED, method);
+            out.writeInt(repetitions);
+            ForkCodec.writeFailure(out, failure);
+            out.writeLong(nanos);
+        });
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        write(() -> {
+            method(ForkCodec.TEST_SKIPPED, method);
+            ForkCodec.writeFailure(out, failure);
+        });
+    }
+
+    @Override
+    public void benchmarkFinished(TestMethod method, TestTiming timing) {
+        write(() -> {
+            method(ForkCodec.BENCHMARK_FINISHED, method);
+            out.writeLong(timing.getTotalNanos());
+            out.writeInt(timing.getRepetitionCount());
+            for (int i = 1; i <= timing.getRepetitionCount(); i++) {
+                out.writeLong(timing.getRepetitionNanos(i));
+            }
+        });
+    }
+
+    @Override
+    public void failure(Failure failure) {
+        write(() -> {
+            out.writeByte(ForkCodec.FAILURE);
+            out.writeUTF(failure.method.getDeclaringClass().getName());
+            ForkCodec.writeFailure(out, failure);
+        });
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        write(() -> {
+            out.writeByte(ForkCodec.RUN_FINISHED);
+            out.writeLong(result.getRunTimeNanos());
+            ForkCodec.writeNullable(out, result.getAbortReason());
+            out.flush();
+        });
+    }
+
+    public void classError(Throwable error) throws IOException {
+        out.writeByte(ForkCodec.CLASS_ERROR);
+        ForkCodec.writeThrowable(out, error);
+    }
+
+    public void done() throws IOException {
+        out.writeByte(ForkCodec.DONE);
+        out.flush();
+    }
+
+    @Override
+    public void flush() {
+        write(out::flush);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void method(byte type, TestMethod method) throws IOException {
+        out.writeByte(type);
+        out.writeUTF(method.getDeclaringClass().getName());
+        out.writeUTF(method.getName());
+    }
+
+    private void write(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,129 @@
+package junit.fork;
+
+import junit.AssertionFailedError;
+import junit.Failure;
+import junit.TestClassDescriptor;
+import junit.TestMethod;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+class ForkCodec {
+    static final int FILE_MAGIC = 0x4A555245;
+    static final int FILE_VERSION = 1;
+
+    static final byte RUN = 1;
+    static final byte SHUTDOWN = 2;
+
+    static final byte CLASS_STARTED = 10;
+    static final byte CLASS_FINISHED = 11;
+    static final byte TEST_STARTED = 12;
+    static final byte REPETITION_FINISHED = 13;
+    static final byte TEST_FINISHED = 14;
+    static final byte TEST_SKIPPED = 15;
+    static final byte BENCHMARK_FINISHED = 16;
+    static final byte FAILURE = 17;
+    static final byte CLASS_ERROR = 18;
+    static final byte DONE = 19;
+    static final byte RUN_FINISHED = 20;
+    static final byte INVOCATION_FINISHED = 21;
+
+    private static final int MAX_CAUSES = 8;
+    private static final int MAX_STRING = 16 * 1024;
+
+    static void writeFailure(DataOutputStream out, Failure failure) throws IOException {
+        out.writeBoolean(failure != null);
+        if (failure != null) {
+            out.writeUTF(failure.method.getName());
+            writeThrowable(out, failure.error);
+        }
+    }
+
+    static Failure readFailure(DataInputStream in, TestClassDescriptor descriptor) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        TestMethod method = method(descriptor, in.readUTF());
+        return new Failure(method, readThrowable(in));
+    }
+
+    static TestMethod method(TestClassDescriptor descriptor, String name) throws IOException {
+        TestMethod method = descriptor.getMethod(name);
+        if (method == null) {
+            throw new IOException("Unknown method " + name + " in " + descriptor.getTestClass().getName());
+        }
+
+        return method;
+    }
+
+    static void writeThrowable(DataOutputStream out, Throwable throwable) throws IOException {
+        int depth = 0;
+        for (Throwable t = throwable; t != null && depth < MAX_CAUSES; t = t.getCause() == t ? null : t.getCause()) {
+            depth++;
+        }
+
+        out.writeInt(depth);
+        Throwable t = throwable;
+        for (int i = 0; i < depth; i++, t = t.getCause()) {
+            out.writeUTF(t instanceof RemoteException remote ? remote.className : t.getClass().getName());
+            out.writeBoolean(t instanceof AssertionError);
+            writeNullable(out, t.getMessage());
+            StackTraceElement[] frames = t.getStackTrace();
+            out.writeInt(frames.length);
+            for (StackTraceElement frame : frames) {
+                out.writeUTF(frame.getClassName());
+                out.writeUTF(frame.getMethodName());
+                writeNullable(out, frame.getFileName());
+                out.writeInt(frame.getLineNumber());
+            }
+        }
+    }
+
+    static Throwable readThrowable(DataInputStream in) throws IOException {
+        int depth = in.readInt();
+        String[] classNames = new String[depth];
+        boolean[] assertions = new boolean[depth];
+        String[] messages = new String[depth];
+        StackTraceElement[][] traces = new StackTraceElement[depth][];
+        for (int i = 0; i < depth; i++) {
+            classNames[i] = in.readUTF();
+            assertions[i] = in.readBoolean();
+            messages[i] = readNullable(in);
+            traces[i] = new StackTraceElement[in.readInt()];
+            for (int j = 0; j < traces[i].length; j++) {
+                traces[i][j] = new StackTraceElement(in.readUTF(), in.readUTF(), readNullable(in), in.readInt());
+            }
+        }
+
+        Throwable throwable = null;
+        for (int i = depth - 1; i >= 0; i--) {
+            Throwable current;
+            if (assertions[i]) {
+                current = new AssertionFailedError(messages[i]);
+                if (throwable != null) {
+                    current.initCause(throwable);
+                }
+            } else {
+                current = new RemoteException(classNames[i], messages[i], throwable);
+            }
+
+            current.setStackTrace(traces[i]);
+            throwable = current;
+        }
+
+        return throwable;
+    }
+
+    static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value.length() > MAX_STRING ? value.substring(0, MAX_STRING) : value);
+        }
+    }
+
+    static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,215 @@
+package junit.fork;
+
+import junit.Failure;
+import junit.TestListener;
+import junit.TestMethod;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+public class ForkCoordinator {
+    private static final int CONNECT_TIMEOUT_MS = 60_000;
+
+    private final int forks;
+    private final List<String> jvmArgs;
+    private final List<String> workerArgs;
+
+    public ForkCoordinator(int forks, List<String> jvmArgs, List<String> workerArgs) {
+        if (forks < 1) {
+            throw new IllegalArgumentException("Forks should be positive: " + forks);
+        }
+
+        this.forks = forks;
+        this.jvmArgs = List.copyOf(jvmArgs);
+        this.workerArgs = List.copyOf(workerArgs);
+    }
+
+    public void run(Class<?>[] classes, TestListener listener, BooleanSupplier aborted, Function<Class<?>, List<TestMethod>> planned) throws Exception {
+        Queue<Class<?>> queue = new ConcurrentLinkedQueue<>(List.of(classes));
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < Math.min(forks, classes.length); i++) {
+            Thread thread = new Thread(() -> drain(queue, listener, errors, aborted, planned), "junit-fork-" + (i + 1));
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        if (!errors.isEmpty()) {
+            Throwable first = errors.get(0);
+            if (first instanceof Exception e) {
+                throw e;
+            } else if (first instanceof Error e) {
+                throw e;
+            }
+
+            throw new RuntimeException(first);
+        }
+    }
+
+    private void drain(Queue<Class<?>> queue, TestListener listener, List<Throwable> errors, BooleanSupplier aborted,
+                       Function<Class<?>, List<TestMethod>> planned) {
+        Worker worker = null;
+        try {
+            Class<?> clazz;
+            while (!aborted.getAsBoolean() && (clazz = queue.poll()) != null) {
+                if (worker == null) {
+                    worker = new Worker();
+                }
+
+                if (!worker.run(clazz, listener, errors, planned)) {
+                    worker.destroy();
+                    worker = null;
+                }
+            }
+        } catch (Throwable e) {
+            errors.add(e);
+        } finally {
+            if (worker != null) {
+                worker.shutdown();
+            }
+        }
+    }
+
+    private class Worker {
+        private final Process process;
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        Worker() throws IOException {
+            try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                List<String> command = new ArrayList<>();
+                command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                command.addAll(jvmArgs);
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add(ForkWorker.class.getName());
+                command.add(String.valueOf(server.getLocalPort()));
+                command.addAll(workerArgs);
+                process = new ProcessBuilder(command)
+                        .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+                server.setSoTimeout(1_000);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CONNECT_TIMEOUT_MS);
+                Socket accepted = null;
+                while (accepted == null) {
+                    try {
+                        accepted = server.accept();
+                    } catch (SocketTimeoutException e) {
+                        if (!process.isAlive() || System.nanoTime() > deadline) {
+                            process.destroyForcibly();
+                            throw new IOException("Forked JVM did not connect, exit code " + exitCode());
+                        }
+                    }
+                }
+
+                socket = accepted;
+            }
+
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        boolean run(Class<?> clazz, TestListener listener, List<Throwable> errors, Function<Class<?>, List<TestMethod>> planned) {
+            EventReader reader = new EventReader(in, clazz.getClassLoader());
+            try {
+                out.writeByte(ForkCodec.RUN);
+                out.writeUTF(clazz.getName());
+                out.flush();
+                while (reader.read(listener) != ForkCodec.DONE) {
+                }
+
+                errors.addAll(reader.getClassErrors());
+                return true;
+            } catch (IOException e) {
+                errors.addAll(reader.getClassErrors());
+                IllegalStateException crash = new IllegalStateException(String.format(
+                        "Forked JVM exited with code %s while running %s", exitCode(), clazz.getName()), e);
+                if (reader.running != null) {
+                    Failure failure = new Failure(reader.running, crash);
+                    listener.failure(failure);
+                    listener.testFinished(reader.running, 0, failure, 0);
+                } else {
+                    errors.add(crash);
+                }
+
+                boolean classStarted = reader.startedClasses.contains(clazz);
+                for (TestMethod method : planned.apply(clazz)) {
+                    if (method != reader.running && !reader.isReported(method)) {
+                        if (!classStarted) {
+                            listener.classStarted(clazz);
+                            reader.startedClasses.add(clazz);
+                            classStarted = true;
+                        }
+
+                        listener.testSkipped(method, new Failure(method, crash));
+                    }
+                }
+
+                for (Class<?> started : reader.startedClasses) {
+                    listener.classFinished(started);
+                }
+
+                return false;
+            }
+        }
+
+        String exitCode() {
+            try {
+                if (process.waitFor(5, TimeUnit.SECONDS)) {
+                    return String.valueOf(process.exitValue());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return "unknown";
+        }
+
+        void shutdown() {
+            try {
+                out.writeByte(ForkCodec.SHUTDOWN);
+                out.flush();
+                socket.close();
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (IOException e) {
+                destroy();
+            } catch (InterruptedException e) {
+                destroy();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void destroy() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+
+            process.destroyForcibly();
+        }
+    }
+}
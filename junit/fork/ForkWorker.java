@@ -0,0 +1,57 @@
+package junit.fork;
+
+import junit.JUnitCore;
+import junit.RunOptions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+
+public class ForkWorker {
+    public static void main(String[] args) throws Exception {
+        int port = Integer.parseInt(args[0]);
+        RunOptions options = options(args);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            EventWriter writer = new EventWriter(out);
+            options.listeners(writer);
+            while (in.readByte() == ForkCodec.RUN) {
+                String className = in.readUTF();
+                try {
+                    Class<?> clazz = Class.forName(className, true, ForkWorker.class.getClassLoader());
+                    JUnitCore.runClasses(options, clazz);
+                } catch (Throwable e) {
+                    writer.classError(e);
+                }
+
+                writer.done();
+            }
+        }
+    }
+
+    static RunOptions options(String[] args) {
+        RunOptions options = RunOptions.defaults();
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--parallel-methods" -> options.parallelMethods(true);
+                case "--parallelism" -> options.parallelism(Integer.parseInt(args[++i]));
+                case "--virtual-threads" -> options.virtualThreads(true);
+                case "--max-concurrency" -> options.maxConcurrency(Integer.parseInt(args[++i]));
+                case "--max-failures" -> options.maxFailures(Integer.parseInt(args[++i]));
+                case "--max-failure-rate" -> options.maxFailureRate(Double.parseDouble(args[++i]), Integer.parseInt(args[++i]));
+                case "--method-order" -> options.history(Path.of(args[++i]), false);
+                case "--deterministic" -> options.deterministic(true);
+                case "--tag" -> options.tags(args[++i]);
+                case "--exclude-tag" -> options.excludeTags(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown worker option: " + args[i]);
+            }
+        }
+
+        return options;
+    }
+}
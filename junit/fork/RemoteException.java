@@ -0,0 +1,22 @@
+package junit.fork;
+
+public class RemoteException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    final String className;
+
+    public RemoteException(String className, String message, Throwable cause) {
+        super(message, cause);
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? className + ": " + message : className;
+    }
+}
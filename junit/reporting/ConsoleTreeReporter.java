@@ -0,0 +1,210 @@
+package junit.reporting;
+
+import junit.Failure;
+import junit.Result;
+import junit.TestListener;
+import junit.TestMethod;
+import junit.TestTiming;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConsoleTreeReporter implements TestListener {
+    private static final int FLUSH_THRESHOLD = 8192;
+    private static final int MAX_PASSED_INVOCATIONS = 50;
+
+    private final PrintStream out;
+    private final StringBuilder pending = new StringBuilder();
+    private final Map<Class<?>, ClassOutput> classes = new LinkedHashMap<>();
+    private final Map<TestMethod, StringBuilder> repeatedTests = new HashMap<>();
+    private final Map<TestMethod, String> benchmarks = new HashMap<>();
+    private final Map<TestMethod, Integer> passedInvocations = new HashMap<>();
+    private Class<?> foreground;
+
+    public ConsoleTreeReporter(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void classStarted(Class<?> testClass) {
+        classes.put(testClass, new ClassOutput());
+        if (foreground == null) {
+            foreground = testClass;
+        }
+
+        write(testClass, String.format("'-- %s [OK]%n", testClass.getSimpleName()));
+    }
+
+    @Override
+    public void classFinished(Class<?> testClass) {
+        ClassOutput output = classes.get(testClass);
+        if (output == null) {
+            return;
+        }
+
+        output.finished = true;
+        if (testClass != foreground) {
+            return;
+        }
+
+        classes.remove(testClass);
+        foreground = null;
+        Iterator<Map.Entry<Class<?>, ClassOutput>> iterator = classes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Class<?>, ClassOutput> next = iterator.next();
+            pending.append(next.getValue().text);
+            if (!next.getValue().finished) {
+                next.getValue().text.setLength(0);
+                foreground = next.getKey();
+                break;
+            }
+
+            iterator.remove();
+        }
+
+        if (classes.isEmpty()) {
+            flush();
+        }
+    }
+
+    @Override
+    public void testStarted(TestMethod method, int repetitions) {
+        if (repetitions > 1 || method.isParameterized()) {
+            repeatedTests.put(method, new StringBuilder(String.format("  +-- %s() [OK]%n", method.getDisplayName())));
+        }
+    }
+
+    @Override
+    public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+        StringBuilder sb = repeatedTests.get(method);
+        if (sb == null) {
+            return;
+        }
+
+        if (failure == null) {
+            sb.append(String.format("  |  +-- repetition %d of %d [OK]%n", repetition, repetitions));
+        } else {
+            sb.append(String.format("  |  +-- repetition %d of %d [X] %s%n", repetition, repetitions, failure.error.getMessage()));
+        }
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        StringBuilder sb = repeatedTests.get(method);
+        if (sb == null) {
+            return;
+        }
+
+        if (failure == null) {
+            if (passedInvocations.merge(method, 1, Integer::sum) <= MAX_PASSED_INVOCATIONS) {
+                sb.append(String.format("  |  +-- %s [OK]%n", name));
+            }
+        } else {
+            sb.append(String.format("  |  +-- %s [X] %s%n", name, failure.error.getMessage()));
+        }
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        StringBuilder sb = repeatedTests.remove(method);
+        Integer passed = passedInvocations.remove(method);
+        if (passed != null && passed > MAX_PASSED_INVOCATIONS) {
+            sb.append(String.format("  |  +-- %d more invocations [OK]%n", passed - MAX_PASSED_INVOCATIONS));
+        }
+
+        if (sb != null) {
+            write(method.getDeclaringClass(), sb);
+        } else if (failure == null) {
+            write(method.getDeclaringClass(), String.format("  +-- %s() [OK]%n", method.getDisplayName()));
+        } else {
+            write(method.getDeclaringClass(), String.format("  +-- %s() [X] %s%n", method.getDisplayName(), failure.error.getMessage()));
+        }
+
+        String statistics = benchmarks.remove(method);
+        if (statistics != null) {
+            write(method.getDeclaringClass(), String.format("  |  +-- %s%n", statistics));
+        }
+    }
+
+    @Override
+    public void benchmarkFinished(TestMethod method, TestTiming timing) {
+        benchmarks.put(method, TimingReporter.statistics(timing));
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        repeatedTests.remove(method);
+        passedInvocations.remove(method);
+        write(method.getDeclaringClass(), String.format("  +-- %s() [X] %s%n", method.getDisplayName(), failure.error.getMessage()));
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        for (ClassOutput output : classes.values()) {
+            pending.append(output.text);
+        }
+
+        classes.clear();
+        foreground = null;
+        if (result.isAborted()) {
+            pending.append(String.format("Run aborted: %s%n", result.getAbortReason()));
+        }
+
+        List<String> pinned = result.getPinnedThreads();
+        if (!pinned.isEmpty()) {
+            pending.append(String.format("%nPinned virtual threads (%d):%n", pinned.size()));
+            for (String report : pinned) {
+                pending.append(report).append(System.lineSeparator());
+            }
+        }
+
+        if (!result.getDeselectedClasses().isEmpty()) {
+            pending.append(String.format("Deselected test classes: %d%n", result.getDeselectedClasses().size()));
+        }
+
+        flush();
+    }
+
+    @Override
+    public void runError(Throwable error) {
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        pending.append("Run failed: ").append(trace);
+        flush();
+    }
+
+    @Override
+    public void flush() {
+        if (pending.length() == 0) {
+            return;
+        }
+
+        out.print(pending);
+        out.flush();
+        pending.setLength(0);
+    }
+
+    private void write(Class<?> testClass, CharSequence text) {
+        ClassOutput output = classes.get(testClass);
+        if (output != null && testClass != foreground) {
+            output.text.append(text);
+            return;
+        }
+
+        pending.append(text);
+        if (pending.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    private static class ClassOutput {
+        final StringBuilder text = new StringBuilder();
+        boolean finished = false;
+    }
+}
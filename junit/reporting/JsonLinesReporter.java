@@ -0,0 +1,127 @@
+package junit.reporting;
+
+import junit.Failure;
+import junit.Result;
+import junit.TestListener;
+import junit.TestMethod;
+import junit.TestResources;
+import junit.TestTiming;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static junit.reporting.ChannelWriter.escapeJson;
+
+public class JsonLinesReporter implements TestListener {
+    private final ChannelWriter writer;
+
+    public JsonLinesReporter(Path path) {
+        this.writer = new ChannelWriter(path);
+    }
+
+    @Override
+    public void classStarted(Class<?> testClass) {
+        writer.append("{\"event\":\"classStarted\",\"class\":").append(escapeJson(testClass.getName()))
+                .append(",\"timestamp\":").append(String.valueOf(System.currentTimeMillis()))
+                .append("}\n");
+    }
+
+    @Override
+    public void classFinished(Class<?> testClass) {
+        writer.append("{\"event\":\"classFinished\",\"class\":").append(escapeJson(testClass.getName()))
+                .append(",\"timestamp\":").append(String.valueOf(System.currentTimeMillis()))
+                .append("}\n");
+    }
+
+    @Override
+    public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+        test("repetitionFinished", method, failure == null ? "passed" : "failed", failure)
+                .append(",\"repetition\":").append(String.valueOf(repetition))
+                .append(",\"repetitions\":").append(String.valueOf(repetitions))
+                .append(",\"durationNanos\":").append(String.valueOf(nanos))
+                .append("}\n");
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        test("invocationFinished", method, failure == null ? "passed" : "failed", failure)
+                .append(",\"invocation\":").append(String.valueOf(invocation))
+                .append(",\"name\":").append(escapeJson(name))
+                .append(",\"durationNanos\":").append(String.valueOf(nanos))
+                .append("}\n");
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        test("testFinished", method, failure == null ? "passed" : "failed", failure)
+                .append(",\"repetitions\":").append(String.valueOf(repetitions))
+                .append(",\"durationNanos\":").append(String.valueOf(nanos))
+                .append("}\n");
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        test("testSkipped", method, "skipped", failure).append("}\n");
+    }
+
+    @Override
+    public void benchmarkFinished(TestMethod method, TestTiming timing) {
+        test("benchmarkFinished", method, "passed", null)
+                .append(",\"iterations\":").append(String.valueOf(timing.getRepetitionCount()))
+                .append(",\"meanNanos\":").append(String.valueOf(timing.getMeanNanos()))
+                .append(",\"stddevNanos\":").append(String.valueOf(timing.getStandardDeviationNanos()))
+                .append(",\"p50Nanos\":").append(String.valueOf(timing.percentile(50)))
+                .append(",\"p99Nanos\":").append(String.valueOf(timing.percentile(99)))
+                .append(",\"opsPerSecond\":").append(String.format(Locale.ROOT, "%.3f", timing.getOpsPerSecond()))
+                .append("}\n");
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        for (TestResources resources : result.getResources()) {
+            TestMethod method = resources.getMethod();
+            writer.append("{\"event\":\"resources\"")
+                    .append(",\"class\":").append(escapeJson(method.getDeclaringClass().getName()))
+                    .append(",\"method\":").append(escapeJson(method.getName()))
+                    .append(",\"invocations\":").append(String.valueOf(resources.getInvocations()))
+                    .append(",\"wallNanos\":").append(String.valueOf(resources.getWallNanos()))
+                    .append(",\"cpuNanos\":").append(String.valueOf(resources.getCpuNanos()))
+                    .append(",\"allocatedBytes\":").append(String.valueOf(resources.getAllocatedBytes()))
+                    .append(",\"gcCount\":").append(String.valueOf(resources.getGcCount()))
+                    .append(",\"gcPauseMillis\":").append(String.valueOf(resources.getGcPauseMillis()))
+                    .append("}\n");
+        }
+
+        writer.append("{\"event\":\"runFinished\"")
+                .append(",\"tests\":").append(String.valueOf(result.getRunCount()))
+                .append(",\"passed\":").append(String.valueOf(result.getPassedCount()))
+                .append(",\"failures\":").append(String.valueOf(result.getFailureCount()))
+                .append(",\"skipped\":").append(String.valueOf(result.getSkippedCount()))
+                .append(",\"aborted\":").append(String.valueOf(result.isAborted()));
+        if (result.isAborted()) {
+            writer.append(",\"abortReason\":").append(escapeJson(result.getAbortReason()));
+        }
+
+        writer.append("}\n");
+        writer.close();
+    }
+
+    @Override
+    public void flush() {
+        writer.flush();
+    }
+
+    private ChannelWriter test(String event, TestMethod method, String status, Failure failure) {
+        writer.append("{\"event\":\"").append(event)
+                .append("\",\"class\":").append(escapeJson(method.getDeclaringClass().getName()))
+                .append(",\"method\":").append(escapeJson(method.getName()))
+                .append(",\"displayName\":").append(escapeJson(method.getDisplayName()))
+                .append(",\"status\":\"").append(status).append("\"");
+        if (failure != null) {
+            writer.append(",\"errorType\":").append(escapeJson(failure.error.getClass().getName()))
+                    .append(",\"message\":").append(escapeJson(failure.error.getMessage()));
+        }
+
+        return writer;
+    }
+}
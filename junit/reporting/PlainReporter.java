@@ -0,0 +1,106 @@
+package junit.reporting;
+
+import junit.Failure;
+import junit.Result;
+import junit.TestListener;
+import junit.TestMethod;
+import junit.TestTiming;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+public class PlainReporter implements TestListener {
+    private final PrintStream out;
+    private final StringBuilder pending = new StringBuilder();
+    private final Map<TestMethod, String> benchmarks = new HashMap<>();
+
+    public PlainReporter(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        line(failure == null ? "[OK] " : "[X] ", method, failure);
+        String statistics = benchmarks.remove(method);
+        if (statistics != null) {
+            pending.append("    ").append(statistics).append(System.lineSeparator());
+        }
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        if (failure != null) {
+            pending.append("[X] ")
+                    .append(method.getDeclaringClass().getName())
+                    .append('.')
+                    .append(method.getName())
+                    .append("() ")
+                    .append(name)
+                    .append(": ")
+                    .append(failure.error.getMessage())
+                    .append(System.lineSeparator());
+        }
+    }
+
+    @Override
+    public void benchmarkFinished(TestMethod method, TestTiming timing) {
+        benchmarks.put(method, TimingReporter.statistics(timing));
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        line("[SKIPPED] ", method, failure);
+    }
+
+    private void line(String status, TestMethod method, Failure failure) {
+        pending.append(status)
+                .append(method.getDeclaringClass().getName())
+                .append('.')
+                .append(method.getName())
+                .append("()");
+        if (failure != null) {
+            pending.append(": ").append(failure.error.getMessage());
+        }
+
+        pending.append(System.lineSeparator());
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        if (result.isAborted()) {
+            pending.append("[ABORTED] ").append(result.getAbortReason()).append(System.lineSeparator());
+        }
+
+        for (String report : result.getPinnedThreads()) {
+            pending.append("[PINNED]").append(report).append(System.lineSeparator());
+        }
+
+        if (!result.getDeselectedClasses().isEmpty()) {
+            pending.append("[DESELECTED] ").append(result.getDeselectedClasses().size()).append(" test classes").append(System.lineSeparator());
+        }
+
+        flush();
+    }
+
+    @Override
+    public void runError(Throwable error) {
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        pending.append("[ERROR] ").append(trace);
+        flush();
+    }
+
+    @Override
+    public void flush() {
+        if (pending.length() == 0) {
+            return;
+        }
+
+        out.print(pending);
+        out.flush();
+        pending.setLength(0);
+    }
+}
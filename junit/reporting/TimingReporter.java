@@ -0,0 +1,144 @@
+package junit.reporting;
+
+import junit.Result;
+import junit.TestListener;
+import junit.TestMethod;
+import junit.TestResources;
+import junit.TestTiming;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+public class TimingReporter implements TestListener {
+    private final PrintStream out;
+    private final int limit;
+
+    public TimingReporter(PrintStream out) {
+        this(out, 10);
+    }
+
+    public TimingReporter(PrintStream out, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit should be positive: " + limit);
+        }
+
+        this.out = out;
+        this.limit = limit;
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        StringBuilder sb = new StringBuilder();
+        String ls = System.lineSeparator();
+        sb.append(String.format("Run time: %s (tests %s)", format(result.getRunTimeNanos()), format(result.getTestTimeNanos()))).append(ls);
+
+        sb.append("Classes:").append(ls);
+        for (Map.Entry<Class<?>, Long> entry : result.getClassTimes().entrySet()) {
+            sb.append(String.format("  %10s  %s", format(entry.getValue()), entry.getKey().getName())).append(ls);
+        }
+
+        sb.append(String.format("Slowest tests (%d):", limit)).append(ls);
+        for (TestTiming timing : result.getSlowestTests(limit)) {
+            sb.append(String.format("  %10s  %s", format(timing.getTotalNanos()), name(timing.getMethod())));
+            if (timing.getRepetitionCount() > 1) {
+                sb.append(String.format(" [%d repetitions, p50 %s, p90 %s, p99 %s, max %s]",
+                        timing.getRepetitionCount(),
+                        format(timing.percentile(50)),
+                        format(timing.percentile(90)),
+                        format(timing.percentile(99)),
+                        format(timing.percentile(100))));
+            }
+
+            sb.append(ls);
+        }
+
+        Map<TestMethod, Long> fixtures = result.getFixtureTimes();
+        if (!fixtures.isEmpty()) {
+            sb.append("Fixtures:").append(ls);
+            fixtures.entrySet().stream().limit(limit).forEach(entry ->
+                    sb.append(String.format("  %10s  %s", format(entry.getValue()), name(entry.getKey()))).append(ls));
+        }
+
+        List<TestResources> allocating = result.getMostAllocating(limit);
+        if (!allocating.isEmpty()) {
+            sb.append(String.format("Most allocating tests (%d):", limit)).append(ls);
+            for (TestResources resources : allocating) {
+                sb.append(String.format("  %10s  %s [%s]", formatBytes(resources.getAllocatedBytes()), name(resources.getMethod()), resources(resources))).append(ls);
+            }
+        }
+
+        List<TestResources> paused = result.getMostGcPaused(limit);
+        if (!paused.isEmpty()) {
+            sb.append(String.format("GC pauses during tests (%d):", limit)).append(ls);
+            for (TestResources resources : paused) {
+                sb.append(String.format("  %10s  %s [%s]", format(resources.getGcPauseMillis() * 1_000_000L), name(resources.getMethod()), resources(resources))).append(ls);
+            }
+        }
+
+        out.print(sb);
+        out.flush();
+    }
+
+    private static String resources(TestResources resources) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d invocations, wall %s", resources.getInvocations(), format(resources.getWallNanos())));
+        if (resources.getCpuNanos() >= 0) {
+            sb.append(String.format(", cpu %s (%.0f%%)", format(resources.getCpuNanos()), resources.getCpuRatio() * 100));
+        }
+
+        if (resources.getAllocatedBytes() >= 0) {
+            sb.append(", allocated ").append(formatBytes(resources.getAllocatedBytes()));
+        }
+
+        if (resources.getGcCount() >= 0) {
+            sb.append(String.format(", %d GCs", resources.getGcCount()));
+        } else {
+            sb.append(", GCs unknown (overlapping tests)");
+        }
+
+        return sb.toString();
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes >= 1L << 30) {
+            return String.format("%.2f GB", bytes / (double) (1L << 30));
+        }
+
+        if (bytes >= 1L << 20) {
+            return String.format("%.2f MB", bytes / (double) (1L << 20));
+        }
+
+        if (bytes >= 1L << 10) {
+            return String.format("%.1f KB", bytes / (double) (1L << 10));
+        }
+
+        return bytes + " B";
+    }
+
+    static String statistics(TestTiming timing) {
+        return String.format("mean %s +- %s, p50 %s, p99 %s, %.1f ops/s (%d iterations)",
+                format(timing.getMeanNanos()),
+                format(timing.getStandardDeviationNanos()),
+                format(timing.percentile(50)),
+                format(timing.percentile(99)),
+                timing.getOpsPerSecond(),
+                timing.getRepetitionCount());
+    }
+
+    private static String name(TestMethod method) {
+        return method.getDeclaringClass().getName() + "." + method.getName() + "()";
+    }
+
+    static String format(long nanos) {
+        if (nanos >= 1_000_000_000L) {
+            return String.format("%.2f s", nanos / 1e9);
+        }
+
+        if (nanos >= 1_000_000L) {
+            return String.format("%.2f ms", nanos / 1e6);
+        }
+
+        return String.format("%.1f us", nanos / 1e3);
+    }
+}
@@ -0,0 +1,162 @@
+package junit.reporting;
+
+import junit.Failure;
+import junit.Result;
+import junit.TestListener;
+import junit.TestMethod;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static junit.reporting.ChannelWriter.escapeXml;
+
+public class XmlReporter implements TestListener {
+    private static final String CLOSING_TAG = "</testsuites>\n";
+
+    private final ChannelWriter writer;
+    private final Map<Class<?>, Suite> suites = new LinkedHashMap<>();
+    private long tail;
+
+    public XmlReporter(Path path) {
+        this.writer = new ChannelWriter(path);
+        writer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites>\n");
+        this.tail = writer.position();
+        writer.append(CLOSING_TAG).flush();
+    }
+
+    @Override
+    public void classStarted(Class<?> testClass) {
+        suites.put(testClass, new Suite(testClass));
+    }
+
+    @Override
+    public void classFinished(Class<?> testClass) {
+        Suite suite = suites.remove(testClass);
+        if (suite != null) {
+            writeSuite(suite);
+        }
+    }
+
+    @Override
+    public void repetitionFinished(TestMethod method, int repetition, int repetitions, Failure failure, long nanos) {
+        suite(method).testcase(method, String.format("%s repetition %d of %d", method.getName(), repetition, repetitions), failure, nanos);
+    }
+
+    @Override
+    public void invocationFinished(TestMethod method, int invocation, String name, Failure failure, long nanos) {
+        suite(method).testcase(method, name, failure, nanos);
+    }
+
+    @Override
+    public void testFinished(TestMethod method, int repetitions, Failure failure, long nanos) {
+        // Rows and repetitions were already written one testcase each; a parameterized test without rows still gets one.
+        if (method.isParameterized() ? repetitions == 0 : repetitions <= 1) {
+            suite(method).testcase(method, method.getName(), failure, nanos);
+        }
+    }
+
+    @Override
+    public void testSkipped(TestMethod method, Failure failure) {
+        suite(method).skipped(method, failure);
+    }
+
+    @Override
+    public void runFinished(Result result) {
+        for (Suite suite : suites.values()) {
+            writeSuite(suite);
+        }
+
+        suites.clear();
+        writer.close();
+    }
+
+    private Suite suite(TestMethod method) {
+        return suites.computeIfAbsent(method.getDeclaringClass(), Suite::new);
+    }
+
+    private void writeSuite(Suite suite) {
+        writer.position(tail);
+        writer.append(suite.toXml());
+        tail = writer.position();
+        writer.append(CLOSING_TAG).flush();
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e9);
+    }
+
+    private static class Suite {
+        final Class<?> testClass;
+        final String timestamp = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        final StringBuilder testcases = new StringBuilder();
+        int tests = 0;
+        int failures = 0;
+        int errors = 0;
+        int skipped = 0;
+        long nanos = 0;
+
+        Suite(Class<?> testClass) {
+            this.testClass = testClass;
+        }
+
+        void testcase(TestMethod method, String name, Failure failure, long nanos) {
+            tests++;
+            this.nanos += nanos;
+            testcases.append("    <testcase name=\"").append(escapeXml(name))
+                    .append("\" classname=\"").append(escapeXml(method.getDeclaringClass().getName()))
+                    .append("\" time=\"").append(seconds(nanos)).append('"');
+            if (failure == null) {
+                testcases.append("/>\n");
+                return;
+            }
+
+            String element = failure.error instanceof AssertionError ? "failure" : "error";
+            if (element.equals("failure")) {
+                failures++;
+            } else {
+                errors++;
+            }
+
+            testcases.append(">\n      <").append(element)
+                    .append(" message=\"").append(escapeXml(failure.error.getMessage()))
+                    .append("\" type=\"").append(escapeXml(failure.error.getClass().getName())).append("\">")
+                    .append(escapeXml(stackTrace(failure.error)))
+                    .append("</").append(element).append(">\n    </testcase>\n");
+        }
+
+        void skipped(TestMethod method, Failure failure) {
+            tests++;
+            skipped++;
+            testcases.append("    <testcase name=\"").append(escapeXml(method.getName()))
+                    .append("\" classname=\"").append(escapeXml(method.getDeclaringClass().getName()))
+                    .append("\" time=\"0.000\">\n      <skipped message=\"")
+                    .append(escapeXml(failure != null ? failure.error.getMessage() : null))
+                    .append("\"/>\n    </testcase>\n");
+        }
+
+        String toXml() {
+            return "  <testsuite name=\"" + escapeXml(testClass.getName())
+                    + "\" tests=\"" + tests
+                    + "\" failures=\"" + failures
+                    + "\" errors=\"" + errors
+                    + "\" skipped=\"" + skipped
+                    + "\" time=\"" + seconds(nanos)
+                    + "\" timestamp=\"" + timestamp + "\">\n"
+                    + testcases
+                    + "  </testsuite>\n";
+        }
+
+        private static String stackTrace(Throwable error) {
+            StringWriter sw = new StringWriter();
+            error.printStackTrace(new PrintWriter(sw));
+            return sw.toString();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package junit.selection;
+
+import junit.Failure;
+import junit.Result;
+import junit.bytecode.ClassFileReader;
+import junit.bytecode.Fnv1a;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+public class IncrementalSelector {
+    public static final Path DEFAULT_INDEX = Path.of(".junit", "selection.idx");
+
+    private final SelectionIndex index;
+    private final Map<String, Long> hashes = new HashMap<>();
+
+    public IncrementalSelector(Path indexFile) throws IOException {
+        this.index = SelectionIndex.load(indexFile);
+    }
+
+    public Class<?>[] select(Class<?>... classes) throws IOException {
+        List<Class<?>> selected = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            SelectionIndex.Entry entry = index.get(clazz.getName());
+            if (entry == null || entry.hasFailed() || changed(loader(clazz), entry)) {
+                selected.add(clazz);
+            }
+        }
+
+        return selected.toArray(Class<?>[]::new);
+    }
+
+    public void update(Result result, Class<?>... classes) throws IOException {
+        if (result.isAborted()) {
+            invalidate(classes);
+            return;
+        }
+
+        Set<Class<?>> failed = new HashSet<>();
+        if (!result.wasSuccessful()) {
+            for (int i = 0; i < result.getFailureCount(); i++) {
+                Failure failure = result.getFailure(i);
+                failed.add(failure.method.getDeclaringClass());
+            }
+        }
+
+        for (Class<?> clazz : classes) {
+            index.put(clazz.getName(), new SelectionIndex.Entry(failed.contains(clazz), closure(loader(clazz), clazz.getName())));
+        }
+
+        index.save();
+    }
+
+    public void invalidate(Class<?>... classes) throws IOException {
+        for (Class<?> clazz : classes) {
+            index.remove(clazz.getName());
+        }
+
+        index.save();
+    }
+
+    private boolean changed(ClassLoader loader, SelectionIndex.Entry entry) throws IOException {
+        for (Map.Entry<String, Long> dependency : entry.getDependencies().entrySet()) {
+            Long hash = hash(loader, dependency.getKey());
+            if (hash == null || hash.longValue() != dependency.getValue()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Map<String, Long> closure(ClassLoader loader, String root) throws IOException {
+        Map<String, Long> dependencies = new LinkedHashMap<>();
+        Set<String> visited = new HashSet<>();
+        Queue<String> queue = new ArrayDeque<>();
+        visited.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            Long hash = hash(loader, name);
+            if (hash == null) {
+                continue;
+            }
+
+            dependencies.put(name, hash);
+            for (String reference : new ClassFileReader(read(resource(loader, name))).getReferencedClasses()) {
+                if (visited.add(reference)) {
+                    queue.add(reference);
+                }
+            }
+        }
+
+        return dependencies;
+    }
+
+    private Long hash(ClassLoader loader, String name) throws IOException {
+        if (hashes.containsKey(name)) {
+            return hashes.get(name);
+        }
+
+        URL resource = resource(loader, name);
+        Long hash = resource == null ? null : Fnv1a.hash(read(resource));
+        hashes.put(name, hash);
+        return hash;
+    }
+
+    private static URL resource(ClassLoader loader, String name) {
+        URL resource = loader.getResource(name.replace('.', '/') + ".class");
+        if (resource == null || "jrt".equals(resource.getProtocol())) {
+            return null;
+        }
+
+        return resource;
+    }
+
+    private static byte[] read(URL resource) throws IOException {
+        try (InputStream in = resource.openStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static ClassLoader loader(Class<?> clazz) {
+        return clazz.getClassLoader() != null ? clazz.getClassLoader() : ClassLoader.getSystemClassLoader();
+    }
+}
@@ -0,0 +1,140 @@
+package junit.selection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SelectionIndex {
+    private static final int MAGIC = 0x4A554958;
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public static class Entry {
+        final boolean failed;
+        final Map<String, Long> dependencies;
+
+        public Entry(boolean failed, Map<String, Long> dependencies) {
+            this.failed = failed;
+            this.dependencies = dependencies;
+        }
+
+        public boolean hasFailed() {
+            return failed;
+        }
+
+        public Map<String, Long> getDependencies() {
+            return dependencies;
+        }
+    }
+
+    public SelectionIndex(Path file) {
+        this.file = file;
+    }
+
+    public static SelectionIndex load(Path file) throws IOException {
+        SelectionIndex index = new SelectionIndex(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return index;
+            }
+
+            long limit = Files.size(file);
+            String[] names = new String[count(in, limit)];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+
+            int count = count(in, limit);
+            for (int i = 0; i < count; i++) {
+                String testClass = names[in.readInt()];
+                boolean failed = in.readBoolean();
+                int dependencyCount = count(in, limit);
+                Map<String, Long> dependencies = new HashMap<>(dependencyCount * 2);
+                for (int j = 0; j < dependencyCount; j++) {
+                    dependencies.put(names[in.readInt()], in.readLong());
+                }
+
+                index.entries.put(testClass, new Entry(failed, dependencies));
+            }
+        } catch (IOException | RuntimeException e) {
+            return new SelectionIndex(file);
+        }
+
+        return index;
+    }
+
+    private static int count(DataInputStream in, long limit) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > limit) {
+            throw new IOException("Invalid count in selection index: " + count);
+        }
+
+        return count;
+    }
+
+    public Entry get(String testClass) {
+        return entries.get(testClass);
+    }
+
+    public void put(String testClass, Entry entry) {
+        entries.put(testClass, entry);
+    }
+
+    public void remove(String testClass) {
+        entries.remove(testClass);
+    }
+
+    public void save() throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            id(ids, names, entry.getKey());
+            for (String dependency : entry.getValue().dependencies.keySet()) {
+                id(ids, names, dependency);
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(names.size());
+            for (String name : names) {
+                out.writeUTF(name);
+            }
+
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                out.writeInt(ids.get(entry.getKey()));
+                out.writeBoolean(entry.getValue().failed);
+                out.writeInt(entry.getValue().dependencies.size());
+                for (Map.Entry<String, Long> dependency : entry.getValue().dependencies.entrySet()) {
+                    out.writeInt(ids.get(dependency.getKey()));
+                    out.writeLong(dependency.getValue());
+                }
+            }
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void id(Map<String, Integer> ids, List<String> names, String name) {
+        if (ids.putIfAbsent(name, names.size()) == null) {
+            names.add(name);
+        }
+    }
+}
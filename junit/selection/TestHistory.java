@@ -0,0 +1,165 @@
+package junit.selection;
+
+import junit.Failure;
+import junit.Result;
+import junit.TestMethod;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TestHistory {
+    public static final Path DEFAULT_FILE = Path.of(".junit", "history.bin");
+
+    private static final int MAGIC = 0x4A554948;
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final Map<String, ClassHistory> classes = new LinkedHashMap<>();
+
+    private static class ClassHistory {
+        long nanos = -1;
+        final Map<String, TestRecord> tests = new LinkedHashMap<>();
+
+        boolean hasFailed() {
+            for (TestRecord test : tests.values()) {
+                if (test.failed) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static class TestRecord {
+        boolean failed;
+        long nanos;
+
+        TestRecord(boolean failed, long nanos) {
+            this.failed = failed;
+            this.nanos = nanos;
+        }
+    }
+
+    public TestHistory(Path file) {
+        this.file = file;
+    }
+
+    public static TestHistory load(Path file) throws IOException {
+        TestHistory history = new TestHistory(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return history;
+            }
+
+            long limit = Files.size(file);
+            int classCount = count(in, limit);
+            for (int i = 0; i < classCount; i++) {
+                ClassHistory clazz = new ClassHistory();
+                history.classes.put(in.readUTF(), clazz);
+                clazz.nanos = in.readLong();
+                int testCount = count(in, limit);
+                for (int j = 0; j < testCount; j++) {
+                    String name = in.readUTF();
+                    boolean failed = in.readBoolean();
+                    clazz.tests.put(name, new TestRecord(failed, in.readLong()));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return new TestHistory(file);
+        }
+
+        return history;
+    }
+
+    private static int count(DataInputStream in, long limit) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > limit) {
+            throw new IOException("Invalid count in test history: " + count);
+        }
+
+        return count;
+    }
+
+    public boolean hasFailed(Class<?> testClass) {
+        ClassHistory clazz = classes.get(testClass.getName());
+        return clazz != null && clazz.hasFailed();
+    }
+
+    public boolean hasFailed(TestMethod method) {
+        ClassHistory clazz = classes.get(method.getDeclaringClass().getName());
+        TestRecord test = clazz == null ? null : clazz.tests.get(method.getName());
+        return test != null && test.failed;
+    }
+
+    public long getDuration(Class<?> testClass) {
+        ClassHistory clazz = classes.get(testClass.getName());
+        return clazz == null ? -1 : clazz.nanos;
+    }
+
+    public long getDuration(TestMethod method) {
+        ClassHistory clazz = classes.get(method.getDeclaringClass().getName());
+        TestRecord test = clazz == null ? null : clazz.tests.get(method.getName());
+        return test == null ? -1 : test.nanos;
+    }
+
+    public void record(Result result) {
+        for (Map.Entry<Class<?>, Long> entry : result.getClassTimes().entrySet()) {
+            classes.computeIfAbsent(entry.getKey().getName(), k -> new ClassHistory()).nanos = entry.getValue();
+        }
+
+        Map<TestMethod, Boolean> outcomes = new HashMap<>();
+        for (Map.Entry<TestMethod, Long> entry : result.getTestTimes().entrySet()) {
+            outcomes.put(entry.getKey(), false);
+            test(entry.getKey()).nanos = entry.getValue();
+        }
+
+        if (!result.wasSuccessful()) {
+            for (int i = 0; i < result.getFailureCount(); i++) {
+                Failure failure = result.getFailure(i);
+                outcomes.put(failure.method, true);
+            }
+        }
+
+        for (Map.Entry<TestMethod, Boolean> outcome : outcomes.entrySet()) {
+            test(outcome.getKey()).failed = outcome.getValue();
+        }
+    }
+
+    private TestRecord test(TestMethod method) {
+        return classes.computeIfAbsent(method.getDeclaringClass().getName(), k -> new ClassHistory())
+                .tests.computeIfAbsent(method.getName(), k -> new TestRecord(false, -1));
+    }
+
+    public void save() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(classes.size());
+            for (Map.Entry<String, ClassHistory> clazz : classes.entrySet()) {
+                out.writeUTF(clazz.getKey());
+                out.writeLong(clazz.getValue().nanos);
+                out.writeInt(clazz.getValue().tests.size());
+                for (Map.Entry<String, TestRecord> test : clazz.getValue().tests.entrySet()) {
+                    out.writeUTF(test.getKey());
+                    out.writeBoolean(test.getValue().failed);
+                    out.writeLong(test.getValue().nanos);
+                }
+            }
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
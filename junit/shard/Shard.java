@@ -0,0 +1,123 @@
+package junit.shard;
+
+import junit.bytecode.Fnv1a;
+import junit.selection.TestHistory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class Shard {
+    private final int index;
+    private final int count;
+
+    public Shard(int index, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Shard count should be positive: " + count);
+        }
+
+        if (index < 1 || index > count) {
+            throw new IllegalArgumentException("Shard index should be between 1 and " + count + ": " + index);
+        }
+
+        this.index = index;
+        this.count = count;
+    }
+
+    public static Shard parse(String shard) {
+        int slash = shard.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Shard should be in the form i/N: " + shard);
+        }
+
+        try {
+            return new Shard(Integer.parseInt(shard.substring(0, slash).trim()), Integer.parseInt(shard.substring(slash + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Shard should be in the form i/N: " + shard, e);
+        }
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Class<?>[] select(Class<?>[] classes, TestHistory history) {
+        if (count == 1) {
+            return classes;
+        }
+
+        return history != null ? balanced(classes, history) : hashed(classes);
+    }
+
+    private Class<?>[] hashed(Class<?>[] classes) {
+        List<Class<?>> selected = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            if (bucket(clazz) == index - 1) {
+                selected.add(clazz);
+            }
+        }
+
+        return selected.toArray(Class<?>[]::new);
+    }
+
+    private Class<?>[] balanced(Class<?>[] classes, TestHistory history) {
+        long known = 0;
+        int knownCount = 0;
+        for (Class<?> clazz : classes) {
+            long nanos = history.getDuration(clazz);
+            if (nanos >= 0) {
+                known += nanos;
+                knownCount++;
+            }
+        }
+
+        long fallback = knownCount == 0 ? 1 : Math.max(1, known / knownCount);
+        long[] durations = new long[classes.length];
+        Integer[] order = new Integer[classes.length];
+        for (int i = 0; i < classes.length; i++) {
+            long nanos = history.getDuration(classes[i]);
+            durations[i] = nanos >= 0 ? nanos : fallback;
+            order[i] = i;
+        }
+
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> durations[i]).reversed()
+                .thenComparing(i -> classes[i].getName()));
+        long[] loads = new long[count];
+        boolean[] selected = new boolean[classes.length];
+        for (int i : order) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+
+            loads[lightest] += durations[i];
+            selected[i] = lightest == index - 1;
+        }
+
+        List<Class<?>> result = new ArrayList<>();
+        for (int i = 0; i < classes.length; i++) {
+            if (selected[i]) {
+                result.add(classes[i]);
+            }
+        }
+
+        return result.toArray(Class<?>[]::new);
+    }
+
+    private int bucket(Class<?> clazz) {
+        return (int) Long.remainderUnsigned(Fnv1a.hash(clazz.getName().getBytes(StandardCharsets.UTF_8)), count);
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
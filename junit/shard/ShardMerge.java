@@ -0,0 +1,49 @@
+package junit.shard;
+
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.TestListener;
+import junit.reporting.JsonLinesReporter;
+import junit.reporting.PlainReporter;
+import junit.reporting.XmlReporter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShardMerge {
+    public static void main(String[] args) throws Exception {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) throws Exception {
+        List<TestListener> listeners = new ArrayList<>();
+        listeners.add(new PlainReporter(System.out));
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--xml" -> listeners.add(new XmlReporter(Path.of(ShardRunner.value(args, ++i))));
+                case "--jsonl" -> listeners.add(new JsonLinesReporter(Path.of(ShardRunner.value(args, ++i))));
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+
+                    files.add(Path.of(args[i]));
+                }
+            }
+        }
+
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No shard result files given");
+        }
+
+        try (Result result = JUnitCore.mergeResults(RunOptions.defaults().listeners(listeners.toArray(TestListener[]::new)),
+                files.toArray(Path[]::new))) {
+            System.out.printf("Merged %d shards: %d run, %d failed, %d skipped%n",
+                    files.size(), result.getRunCount(), result.getFailureCount(), result.getSkippedCount());
+            return result.wasSuccessful() ? 0 : 1;
+        }
+    }
+}
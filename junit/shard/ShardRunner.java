@@ -0,0 +1,106 @@
+package junit.shard;
+
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.discovery.TestDiscovery;
+import junit.fork.EventWriter;
+import junit.reporting.PlainReporter;
+import junit.selection.TestHistory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShardRunner {
+    public static void main(String[] args) throws Exception {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) throws Exception {
+        Shard shard = new Shard(1, 1);
+        Path balancedBy = null;
+        Path resultFile = null;
+        int forks = 0;
+        boolean parallel = false;
+        List<String> packages = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        String pattern = null;
+        List<String> classNames = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--shard" -> shard = Shard.parse(value(args, ++i));
+                case "--balanced-by" -> balancedBy = Path.of(value(args, ++i));
+                case "--result-file" -> resultFile = Path.of(value(args, ++i));
+                case "--forks" -> forks = Integer.parseInt(value(args, ++i));
+                case "--parallel" -> parallel = true;
+                case "--package" -> packages.add(value(args, ++i));
+                case "--tag" -> tags.add(value(args, ++i));
+                case "--pattern" -> pattern = value(args, ++i);
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+
+                    classNames.add(args[i]);
+                }
+            }
+        }
+
+        if (resultFile == null) {
+            resultFile = Path.of(".junit", "shard-" + shard.getIndex() + "-of-" + shard.getCount() + ".bin");
+        }
+
+        Class<?>[] classes;
+        if (classNames.isEmpty()) {
+            TestDiscovery discovery = TestDiscovery.classpath().packages(packages.toArray(String[]::new)).tags(tags.toArray(String[]::new));
+            if (pattern != null) {
+                discovery.namePattern(pattern);
+            }
+
+            classes = discovery.loadClasses();
+        } else {
+            classes = new Class<?>[classNames.size()];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = Class.forName(classNames.get(i), false, ShardRunner.class.getClassLoader());
+            }
+        }
+
+        Class<?>[] selected = shard.select(classes, balancedBy != null ? TestHistory.load(balancedBy) : null);
+        System.out.printf("Shard %d/%d: %d of %d test classes (tests are sharded by class)%n",
+                shard.getIndex(), shard.getCount(), selected.length, classes.length);
+        if (selected.length == 0 && classes.length > 0) {
+            System.out.printf("Shard %d/%d has no test classes; there are fewer classes than shards or the balance is uneven%n",
+                    shard.getIndex(), shard.getCount());
+        }
+
+        Path temp = resultFile.resolveSibling(resultFile.getFileName() + ".tmp");
+        boolean successful = false;
+        try (EventWriter writer = EventWriter.create(temp)) {
+            RunOptions options = RunOptions.defaults()
+                    .forks(forks)
+                    .parallelClasses(parallel)
+                    .tags(tags.toArray(String[]::new))
+                    .listeners(new PlainReporter(System.out), writer);
+            try (Result result = JUnitCore.runClasses(options, selected)) {
+                successful = result.wasSuccessful();
+            } catch (Exception | Error e) {
+                writer.classError(e);
+                JUnitCore.reportError(options, e);
+            }
+        }
+
+        Files.move(temp, resultFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return successful ? 0 : 1;
+    }
+
+    static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+
+        return args[i];
+    }
+}
@@ -0,0 +1,125 @@
+package junit.watch;
+
+import junit.bytecode.ClassFileReader;
+import junit.bytecode.Fnv1a;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class ClassGraph {
+    private final Map<Path, Node> files = new HashMap<>();
+    private final Map<String, Node> classes = new HashMap<>();
+
+    private static class Node {
+        final String className;
+        final long hash;
+        final Set<String> references;
+
+        Node(String className, long hash, Set<String> references) {
+            this.className = className;
+            this.hash = hash;
+            this.references = references;
+        }
+    }
+
+    Set<String> scan(Path root) throws IOException {
+        List<Path> found;
+        try (Stream<Path> walk = Files.walk(root)) {
+            found = walk.filter(file -> isClassFile(file) && Files.isRegularFile(file)).toList();
+        }
+
+        Set<String> changed = new HashSet<>();
+        for (Path file : found) {
+            changed.addAll(update(file));
+        }
+
+        return changed;
+    }
+
+    Set<String> update(Path file) throws IOException {
+        Node previous = files.get(file);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return remove(file);
+        }
+
+        long hash = Fnv1a.hash(bytes);
+        if (previous != null && previous.hash == hash) {
+            return Set.of();
+        }
+
+        String className;
+        Set<String> references;
+        try {
+            ClassFileReader reader = new ClassFileReader(bytes);
+            className = reader.getClassName();
+            references = reader.getReferencedClasses();
+        } catch (IOException | RuntimeException e) {
+            return previous != null ? Set.of(previous.className) : Set.of();
+        }
+
+        Node node = new Node(className, hash, references);
+        files.put(file, node);
+        classes.put(className, node);
+        return previous != null && !previous.className.equals(className) ? Set.of(previous.className, className) : Set.of(className);
+    }
+
+    Set<String> remove(Path file) {
+        Node node = files.remove(file);
+        if (node == null) {
+            return Set.of();
+        }
+
+        classes.remove(node.className, node);
+        return Set.of(node.className);
+    }
+
+    Set<String> removeAll(Path directory) {
+        Set<String> removed = new HashSet<>();
+        for (Path file : new ArrayList<>(files.keySet())) {
+            if (file.startsWith(directory)) {
+                removed.addAll(remove(file));
+            }
+        }
+
+        return removed;
+    }
+
+    Set<String> dependents(Set<String> changed) {
+        Map<String, List<String>> referencedBy = new HashMap<>();
+        for (Node node : classes.values()) {
+            for (String reference : node.references) {
+                referencedBy.computeIfAbsent(reference, k -> new ArrayList<>()).add(node.className);
+            }
+        }
+
+        Set<String> dependents = new HashSet<>(changed);
+        Queue<String> queue = new ArrayDeque<>(changed);
+        while (!queue.isEmpty()) {
+            for (String dependent : referencedBy.getOrDefault(queue.poll(), List.of())) {
+                if (dependents.add(dependent)) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        return dependents;
+    }
+
+    static boolean isClassFile(Path file) {
+        return file.getFileName().toString().endsWith(".class");
+    }
+}
@@ -0,0 +1,66 @@
+package junit.watch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+class WatchClassLoader extends URLClassLoader {
+    static {
+        registerAsParallelCapable();
+    }
+
+    WatchClassLoader(List<Path> roots, ClassLoader parent) {
+        super(urls(roots), parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> clazz = findLoadedClass(name);
+            if (clazz == null && isReloadable(name)) {
+                try {
+                    clazz = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    clazz = null;
+                }
+            }
+
+            if (clazz == null) {
+                clazz = super.loadClass(name, false);
+            }
+
+            if (resolve) {
+                resolveClass(clazz);
+            }
+
+            return clazz;
+        }
+    }
+
+    @Override
+    public URL getResource(String name) {
+        URL resource = isReloadable(name.replace('/', '.')) ? findResource(name) : null;
+        return resource != null ? resource : super.getResource(name);
+    }
+
+    static boolean isReloadable(String name) {
+        return !name.startsWith("java.") && !name.startsWith("javax.") && !name.startsWith("jdk.") && !name.startsWith("sun.")
+                && !name.startsWith("junit.");
+    }
+
+    private static URL[] urls(List<Path> roots) {
+        URL[] urls = new URL[roots.size()];
+        for (int i = 0; i < urls.length; i++) {
+            try {
+                urls[i] = roots.get(i).toUri().toURL();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return urls;
+    }
+}
@@ -0,0 +1,250 @@
+package junit.watch;
+
+import junit.JUnitCore;
+import junit.Result;
+import junit.RunOptions;
+import junit.discovery.DiscoveredClass;
+import junit.discovery.TestDiscovery;
+import junit.reporting.PlainReporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class WatchRunner implements AutoCloseable {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    private final List<Path> roots;
+    private final RunOptions options;
+    private final TestDiscovery discovery;
+    private final ClassGraph graph = new ClassGraph();
+    private final WatchService watcher;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Set<String> knownTests = new HashSet<>();
+    private long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+    private WatchClassLoader loader;
+
+    public WatchRunner(RunOptions options, TestDiscovery discovery, Path... roots) throws IOException {
+        this.roots = Arrays.stream(roots).map(Path::toAbsolutePath).toList();
+        this.options = options;
+        this.discovery = discovery;
+        this.watcher = FileSystems.getDefault().newWatchService();
+        for (Path root : this.roots) {
+            register(root);
+        }
+    }
+
+    public WatchRunner debounce(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+        return this;
+    }
+
+    public Result runAll() throws Exception {
+        for (Path root : roots) {
+            graph.scan(root);
+        }
+
+        List<String> tests = discover();
+        knownTests.clear();
+        return run(tests);
+    }
+
+    public Result awaitChanges() throws Exception {
+        Set<String> changed = new LinkedHashSet<>();
+        WatchKey key = watcher.take();
+        while (key != null) {
+            changed.addAll(process(key));
+            key = watcher.poll(debounceMillis, TimeUnit.MILLISECONDS);
+        }
+
+        if (changed.isEmpty()) {
+            return null;
+        }
+
+        Set<String> affected = graph.dependents(changed);
+        List<String> tests = discover();
+        List<String> selected = new ArrayList<>();
+        for (String test : tests) {
+            if (affected.contains(test) || !knownTests.contains(test)) {
+                selected.add(test);
+            }
+        }
+
+        knownTests.retainAll(tests);
+        return selected.isEmpty() ? null : run(selected);
+    }
+
+    public void watch() throws InterruptedException {
+        boolean initial = true;
+        while (true) {
+            try {
+                Result result;
+                if (initial) {
+                    initial = false;
+                    result = runAll();
+                } else {
+                    result = awaitChanges();
+                }
+
+                if (result != null) {
+                    result.close();
+                }
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception | LinkageError e) {
+                JUnitCore.reportError(options, e);
+            }
+        }
+    }
+
+    private List<String> discover() throws IOException {
+        return discovery.discover().stream().map(DiscoveredClass::getClassName).toList();
+    }
+
+    private Result run(List<String> tests) throws Exception {
+        WatchClassLoader previous = loader;
+        loader = new WatchClassLoader(roots, WatchRunner.class.getClassLoader());
+        if (previous != null) {
+            previous.close();
+        }
+
+        Class<?>[] classes = new Class<?>[tests.size()];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = Class.forName(tests.get(i), false, loader);
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            Result result = JUnitCore.runClasses(options, classes);
+            knownTests.addAll(tests);
+            return result;
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+    }
+
+    private Set<String> process(WatchKey key) throws IOException {
+        Set<String> changed = new HashSet<>();
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                for (Path root : roots) {
+                    changed.addAll(graph.scan(root));
+                }
+
+                continue;
+            }
+
+            Path file = directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+                register(file);
+                changed.addAll(graph.scan(file));
+            } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                changed.addAll(graph.remove(file));
+                changed.addAll(graph.removeAll(file));
+            } else if (ClassGraph.isClassFile(file) && Files.isRegularFile(file)) {
+                changed.addAll(graph.update(file));
+            }
+        }
+
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+
+        return changed;
+    }
+
+    private void register(Path root) throws IOException {
+        List<Path> found;
+        try (Stream<Path> walk = Files.walk(root)) {
+            found = walk.filter(Files::isDirectory).toList();
+        }
+
+        for (Path directory : found) {
+            WatchKey key = directory.register(watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            directories.put(key, directory);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watcher.close();
+        if (loader != null) {
+            loader.close();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Path> roots = new ArrayList<>();
+        long debounce = DEFAULT_DEBOUNCE_MILLIS;
+        boolean parallel = false;
+        List<String> packages = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        String pattern = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--dir" -> roots.add(Path.of(value(args, ++i)));
+                case "--debounce" -> debounce = Long.parseLong(value(args, ++i));
+                case "--parallel" -> parallel = true;
+                case "--package" -> packages.add(value(args, ++i));
+                case "--tag" -> tags.add(value(args, ++i));
+                case "--pattern" -> pattern = value(args, ++i);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (roots.isEmpty()) {
+            for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                if (!entry.isEmpty() && Files.isDirectory(Path.of(entry))) {
+                    roots.add(Path.of(entry));
+                }
+            }
+        }
+
+        Path[] watched = roots.toArray(Path[]::new);
+        TestDiscovery discovery = new TestDiscovery(watched).cache().packages(packages.toArray(String[]::new)).tags(tags.toArray(String[]::new));
+        if (pattern != null) {
+            discovery.namePattern(pattern);
+        }
+
+        RunOptions options = RunOptions.defaults()
+                .parallelClasses(parallel)
+                .tags(tags.toArray(String[]::new))
+                .listeners(new PlainReporter(System.out));
+        try (WatchRunner runner = new WatchRunner(options, discovery, watched).debounce(debounce)) {
+            runner.watch();
+        }
+    }
+
+    static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+
+        return args[i];
+    }
+}